@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+# AppCDS arşivli (isteğe bağlı AOT işlenmiş) çalıştırılabilir dizin oluşturur.
+#
+#   scripts/build-cds.sh          -> target/cds      (yalnızca CDS)
+#   scripts/build-cds.sh --aot    -> target/cds-aot  (AOT + CDS)
+#
+# Eğitim çalıştırması uygulama bağlamını açıp kapatır, bu yüzden DATABASE_URL,
+# PGUSER ve PGPASSWORD ile erişilebilir bir veritabanı gerekir.
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+AOT=false
+if [[ "${1:-}" == "--aot" ]]; then
+    AOT=true
+fi
+
+OUT=target/cds
+MVN_ARGS=(-B -q -DskipTests package)
+JAVA_ARGS=(-Dspring.profiles.active=prod)
+if $AOT; then
+    OUT=target/cds-aot
+    MVN_ARGS=(-Paot "${MVN_ARGS[@]}")
+    JAVA_ARGS+=(-Dspring.aot.enabled=true)
+fi
+
+./mvnw "${MVN_ARGS[@]}"
+JAR=$(ls target/backend-*.jar | grep -v original | head -n 1)
+
+rm -rf "$OUT"
+java -Djarmode=tools -jar "$JAR" extract --destination "$OUT"
+
+# Eğitim çalıştırması: bağlam yenilendikten hemen sonra çıkar ve yüklenen sınıfları arşivler
+(cd "$OUT" && java -XX:ArchiveClassesAtExit=application.jsa -Dspring.context.exit=onRefresh \
+    "${JAVA_ARGS[@]}" -jar "$(basename "$JAR")")
+
+echo "Çalıştırmak için:"
+echo "  (cd $OUT && java -XX:SharedArchiveFile=application.jsa ${JAVA_ARGS[*]} -jar $(basename "$JAR"))"
@@ -0,0 +1,72 @@
+#!/usr/bin/env bash
+# Her açılış modu için açılış süresini ve ilk isteğin gecikmesini ölçer.
+#
+#   scripts/startup-benchmark.sh [tekrar sayısı]
+#
+# Modlar: default (varsayılan profil), prod (şema doğrulama, SQL loglama kapalı), prod+cds, prod+aot+cds.
+# CDS modları için önce scripts/build-cds.sh ve scripts/build-cds.sh --aot çalıştırılmalıdır.
+# İlk istek veritabanına giden /api/tasks/user/{id} uç noktasıdır; BENCHMARK_USER_ID (varsayılan 1)
+# veritabanında var olan bir kullanıcı olmalıdır. Sonuçlar target/startup-benchmark.csv dosyasına yazılır.
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+USER_ID=${BENCHMARK_USER_ID:-1}
+OUT=target/startup-benchmark.csv
+JAR=$(ls target/backend-*.jar | grep -v original | head -n 1)
+JAR_NAME=$(basename "$JAR")
+
+now_ms() { date +%s%3N; }
+
+measure() {
+    local mode=$1 dir=$2
+    shift 2
+    for run in $(seq 1 "$RUNS"); do
+        local start ready first status pid
+        start=$(now_ms)
+        (cd "$dir" && exec java "$@" -Dserver.port="$PORT" -jar "$JAR_NAME") > "target/startup-$mode.log" 2>&1 &
+        pid=$!
+        until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+            if ! kill -0 "$pid" 2> /dev/null; then
+                echo "$mode açılamadı, bkz. target/startup-$mode.log" >&2
+                return 1
+            fi
+            sleep 0.05
+        done
+        ready=$(now_ms)
+        # İlk gerçek istek: JPA sorgusu ve Jackson burada ısınır
+        read -r status first < <(curl -s -o /dev/null -w '%{http_code} %{time_total}\n' \
+            "http://localhost:$PORT/api/tasks/user/$USER_ID")
+        kill "$pid"
+        wait "$pid" 2> /dev/null || true
+        if [[ "$status" != 200 ]]; then
+            echo "$mode: ilk istek $status döndü, BENCHMARK_USER_ID=$USER_ID var mı?" >&2
+            return 1
+        fi
+        echo "$mode,$run,$((ready - start)),$(awk "BEGIN { printf \"%d\", $first * 1000 }")" >> "$OUT"
+    done
+}
+
+if curl -s -o /dev/null "http://localhost:$PORT/"; then
+    echo "$PORT portu kullanımda, ölçüm başka bir uygulamaya gider" >&2
+    exit 1
+fi
+
+mkdir -p target
+echo "mode,run,startup_ms,first_request_ms" > "$OUT"
+
+measure default "$(dirname "$JAR")"
+measure prod "$(dirname "$JAR")" -Dspring.profiles.active=prod
+if [[ -f target/cds/application.jsa ]]; then
+    measure prod-cds target/cds -XX:SharedArchiveFile=application.jsa -Dspring.profiles.active=prod
+fi
+if [[ -f target/cds-aot/application.jsa ]]; then
+    measure prod-aot-cds target/cds-aot -XX:SharedArchiveFile=application.jsa \
+        -Dspring.profiles.active=prod -Dspring.aot.enabled=true
+fi
+
+# Mod başına ortalama
+awk -F, 'NR > 1 { s[$1] += $3; f[$1] += $4; n[$1]++ }
+    END { printf "%-14s %12s %18s\n", "mode", "startup_ms", "first_request_ms";
+          for (m in s) printf "%-14s %12d %18d\n", m, s[m] / n[m], f[m] / n[m] }' "$OUT"
@@ -0,0 +1,23 @@
+package com.taskmanager.changebus;
+
+import java.util.function.Consumer;
+
+/**
+ * Instance'lar arasında metin mesajı taşıyan kanal. Üretimde PostgreSQL LISTEN/NOTIFY,
+ * testlerde ve tek instance'lı kurulumlarda {@link InMemoryChangeTransport} kullanılır.
+ */
+public interface ChangeTransport {
+
+    /** Mesaj taşıyabileceği en büyük yük (bayt). */
+    int maxPayloadBytes();
+
+    void send(String payload);
+
+    /**
+     * Mesajları dinlemeye başlar. {@code onReconnect}, bağlantı koptuktan sonra
+     * yeniden kurulduğunda çağrılır (aradaki mesajlar kaybolmuş olabilir).
+     */
+    void start(Consumer<String> onMessage, Runnable onReconnect);
+
+    void stop();
+}
@@ -0,0 +1,46 @@
+package com.taskmanager.changebus;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Aynı JVM içindeki abonelere mesajı doğrudan ileten kanal. Birden fazla {@link TaskChangeBus}
+ * aynı nesneyi paylaşırsa çok instance'lı bir kurulum gibi davranır.
+ */
+public class InMemoryChangeTransport implements ChangeTransport {
+
+    private final List<Consumer<String>> subscribers = new CopyOnWriteArrayList<>();
+    private final List<Runnable> reconnectHandlers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public int maxPayloadBytes() {
+        return 8000;
+    }
+
+    @Override
+    public void send(String payload) {
+        for (Consumer<String> subscriber : subscribers) {
+            subscriber.accept(payload);
+        }
+    }
+
+    @Override
+    public void start(Consumer<String> onMessage, Runnable onReconnect) {
+        subscribers.add(onMessage);
+        reconnectHandlers.add(onReconnect);
+    }
+
+    @Override
+    public void stop() {
+        subscribers.clear();
+        reconnectHandlers.clear();
+    }
+
+    /** Bağlantı kopmasını taklit eder. */
+    public void simulateReconnect() {
+        for (Runnable handler : reconnectHandlers) {
+            handler.run();
+        }
+    }
+}
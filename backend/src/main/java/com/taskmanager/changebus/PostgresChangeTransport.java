@@ -0,0 +1,166 @@
+package com.taskmanager.changebus;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY üzerinden mesaj taşır. Gönderim havuzdaki bağlantılarla
+ * {@code pg_notify} ile yapılır; dinleme için havuz dışında ayrı bir bağlantı açılır,
+ * böylece havuzdan sürekli bir bağlantı eksilmez.
+ *
+ * <p>Dinleme bağlantısı koparsa artan aralıklarla yeniden bağlanılır. Kopukluk sırasında
+ * gönderilen bildirimler kaybolur, bu yüzden her yeniden bağlantıda {@code onReconnect} çağrılır.
+ *
+ * <p>Bildirim beklemek trafik üretmediği için yarı açık kalmış bir TCP bağlantısı (ör. NAT veya
+ * güvenlik duvarı oturumu düşürdüğünde) kendiliğinden fark edilmez. Bu yüzden bağlantıda
+ * TCP keepalive açılır ve belirli aralıklarla {@code SELECT 1} gönderilir; yanıt
+ * {@code socketTimeout} içinde gelmezse bağlantı kopmuş sayılır.
+ */
+public class PostgresChangeTransport implements ChangeTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresChangeTransport.class);
+
+    private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    /** PostgreSQL NOTIFY yükü 8000 bayttan kısa olmalıdır. */
+    private static final int MAX_PAYLOAD_BYTES = 7999;
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private static final long PING_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(15);
+    private static final int SOCKET_TIMEOUT_SECONDS = 30;
+    private static final long MIN_BACKOFF_MILLIS = 500;
+    private static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String channel;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresChangeTransport(JdbcTemplate jdbcTemplate, String url, String username, String password,
+                                   String channel) {
+        if (!CHANNEL.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Geçersiz kanal adı: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.channel = channel;
+    }
+
+    @Override
+    public int maxPayloadBytes() {
+        return MAX_PAYLOAD_BYTES;
+    }
+
+    @Override
+    public void send(String payload) {
+        jdbcTemplate.execute("SELECT pg_notify(?, ?)", (PreparedStatementCallback<Boolean>) ps -> {
+            ps.setString(1, channel);
+            ps.setString(2, payload);
+            return ps.execute();
+        });
+    }
+
+    @Override
+    public synchronized void start(Consumer<String> onMessage, Runnable onReconnect) {
+        if (running) {
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(() -> listen(onMessage, onReconnect), "change-bus-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread = null;
+        }
+    }
+
+    private Properties connectionProperties() {
+        Properties properties = new Properties();
+        if (username != null) {
+            properties.setProperty("user", username);
+        }
+        if (password != null) {
+            properties.setProperty("password", password);
+        }
+        properties.setProperty("tcpKeepAlive", "true");
+        properties.setProperty("socketTimeout", Integer.toString(SOCKET_TIMEOUT_SECONDS));
+        properties.setProperty("ApplicationName", "task-manager-change-bus");
+        return properties;
+    }
+
+    // Yanıt gelmezse socketTimeout sonunda SQLException atılır ve yeniden bağlanılır
+    private static void ping(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+        }
+    }
+
+    private void listen(Consumer<String> onMessage, Runnable onReconnect) {
+        boolean connectedBefore = false;
+        long backoff = MIN_BACKOFF_MILLIS;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, connectionProperties())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (connectedBefore) {
+                    log.info("Değişiklik kanalına yeniden bağlanıldı: {}", channel);
+                    onReconnect.run();
+                }
+                connectedBefore = true;
+                backoff = MIN_BACKOFF_MILLIS;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                long lastPing = System.nanoTime();
+                while (running) {
+                    if (System.nanoTime() - lastPing > PING_INTERVAL_NANOS) {
+                        ping(connection);
+                        lastPing = System.nanoTime();
+                    }
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        onMessage.accept(notification.getParameter());
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Değişiklik kanalı dinlenemiyor, {} ms sonra yeniden denenecek: {}", backoff, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MILLIS);
+            }
+        }
+    }
+}
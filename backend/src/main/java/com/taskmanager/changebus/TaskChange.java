@@ -0,0 +1,32 @@
+package com.taskmanager.changebus;
+
+/**
+ * Bir görevde (veya {@code taskId} null ise kullanıcının tüm görevlerinde) yapılan değişiklik.
+ * {@code version} görevin {@code @Version} değeridir; aynı görev için büyük olan daha yenidir.
+ */
+public record TaskChange(long userId, Long taskId, long version, boolean deleted) {
+
+    public static TaskChange saved(long userId, long taskId, long version) {
+        return new TaskChange(userId, taskId, version, false);
+    }
+
+    public static TaskChange deleted(long userId, long taskId, long version) {
+        return new TaskChange(userId, taskId, version, true);
+    }
+
+    /**
+     * Tek tek izlenemeyen toplu değişiklikler (içe aktarma, seri silme) ve kullanıcının kendisindeki
+     * değişiklikler (kayıt, e-posta değişikliği, silme) için.
+     */
+    public static TaskChange allTasksOf(long userId) {
+        return new TaskChange(userId, null, 0, false);
+    }
+
+    /** Aynı görev için iki değişiklikten hangisinin saklanacağı: silme ve yüksek sürüm kazanır. */
+    TaskChange merge(TaskChange other) {
+        if (deleted != other.deleted) {
+            return deleted ? this : other;
+        }
+        return version >= other.version ? this : other;
+    }
+}
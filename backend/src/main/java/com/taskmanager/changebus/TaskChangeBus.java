@@ -0,0 +1,201 @@
+package com.taskmanager.changebus;
+
+import com.taskmanager.util.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Görev değişikliklerini diğer instance'lara duyurur ve onlardan gelenleri yerel
+ * {@link TaskChangeListener}'lara dağıtır.
+ *
+ * <p>Değişiklikler transaction commit olduktan sonra bir tampona alınır; aynı görev için
+ * tampondaki kayıtlar birleştirilir ve {@link #flush()} ile birkaç görevlik tek mesaj olarak
+ * gönderilir. Böylece yoğun yazmalarda mesaj sayısı yazma sayısıyla değil, flush sıklığıyla artar.
+ * Flush kendi thread'inde çalışır; uzun süren zamanlanmış işler (ör. e-posta indeksi) bildirimleri geciktirmez.
+ *
+ * <p>Mesaj biçimi: {@code <instanceId>|userId,taskId,version,d;...} — toplu değişikliklerde
+ * taskId boştur, silmelerde {@code d} 1'dir. Instance kendi gönderdiği mesajları yok sayar.
+ */
+public class TaskChangeBus {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskChangeBus.class);
+
+    private final ChangeTransport transport;
+    private final List<TaskChangeListener> listeners;
+    /** Mesaj başlığı; yük yalnızca ASCII içerdiği için uzunluk bayt sayısına eşittir. */
+    private final String header = UUID.randomUUID() + "|";
+
+    private final Duration flushInterval;
+    private final Map<PendingKey, TaskChange> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flusher;
+
+    public TaskChangeBus(ChangeTransport transport, List<TaskChangeListener> listeners, Duration flushInterval) {
+        this.transport = transport;
+        this.listeners = List.copyOf(listeners);
+        this.flushInterval = flushInterval;
+    }
+
+    public synchronized void start() {
+        transport.start(this::receive, this::resync);
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "change-bus-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = Math.max(1, flushInterval.toMillis());
+        flusher.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flusher = null;
+        }
+        transport.stop();
+        flush();
+    }
+
+    // Zamanlanmış görev bir istisnada durdurulur; flush hiçbir zaman dışarı istisna atmamalı
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Görev değişiklikleri gönderilirken beklenmeyen hata", e);
+        }
+    }
+
+    /**
+     * Değişikliği kaydeder. Etkin bir transaction varsa commit sonrasına ertelenir;
+     * geri alınan transaction'ların değişiklikleri hiç duyurulmaz.
+     */
+    public void publish(TaskChange change) {
+        AfterCommit.run(() -> enqueue(change));
+    }
+
+    private void enqueue(TaskChange change) {
+        pending.merge(new PendingKey(change.userId(), change.taskId()), change, TaskChange::merge);
+    }
+
+    /** Tampondaki değişiklikleri gönderir; gönderilemeyenler bir sonraki flush'a kalır. */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<TaskChange> batch = new ArrayList<>(pending.size());
+        for (PendingKey key : pending.keySet()) {
+            TaskChange change = pending.remove(key);
+            if (change != null) {
+                batch.add(change);
+            }
+        }
+
+        int limit = transport.maxPayloadBytes();
+        StringBuilder payload = new StringBuilder(header);
+        int start = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            String entry = encode(batch.get(i));
+            if (payload.length() > header.length() && payload.length() + entry.length() > limit) {
+                if (!send(payload.toString(), batch.subList(start, i))) {
+                    requeue(batch.subList(i, batch.size()));
+                    return;
+                }
+                payload.setLength(header.length());
+                start = i;
+            }
+            payload.append(entry);
+        }
+        send(payload.toString(), batch.subList(start, batch.size()));
+    }
+
+    private boolean send(String payload, List<TaskChange> changes) {
+        try {
+            transport.send(payload);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Görev değişiklikleri gönderilemedi ({} kayıt), tekrar denenecek: {}", changes.size(), e.getMessage());
+            requeue(changes);
+            return false;
+        }
+    }
+
+    private void requeue(List<TaskChange> changes) {
+        changes.forEach(this::enqueue);
+    }
+
+    void receive(String payload) {
+        int separator = payload.indexOf('|');
+        if (separator < 0 || payload.startsWith(header)) {
+            return;
+        }
+        List<TaskChange> changes;
+        try {
+            changes = decode(payload.substring(separator + 1));
+        } catch (RuntimeException e) {
+            log.warn("Çözümlenemeyen değişiklik mesajı atlandı: {}", e.getMessage());
+            return;
+        }
+        for (TaskChangeListener listener : listeners) {
+            try {
+                listener.onTaskChanges(changes);
+            } catch (RuntimeException e) {
+                log.error("Görev değişikliği işlenemedi: {}", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    void resync() {
+        for (TaskChangeListener listener : listeners) {
+            try {
+                listener.onResync();
+            } catch (RuntimeException e) {
+                log.error("Yeniden eşitleme yapılamadı: {}", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    static String encode(TaskChange change) {
+        return change.userId() + "," + (change.taskId() == null ? "" : change.taskId()) + ","
+                + change.version() + "," + (change.deleted() ? "1" : "0") + ";";
+    }
+
+    static List<TaskChange> decode(String body) {
+        List<TaskChange> changes = new ArrayList<>();
+        for (String entry : body.split(";")) {
+            if (entry.isEmpty()) {
+                continue;
+            }
+            String[] fields = entry.split(",", -1);
+            if (fields.length != 4) {
+                throw new IllegalArgumentException("Hatalı kayıt: " + entry);
+            }
+            changes.add(new TaskChange(
+                    Long.parseLong(fields[0]),
+                    fields[1].isEmpty() ? null : Long.valueOf(fields[1]),
+                    Long.parseLong(fields[2]),
+                    "1".equals(fields[3])));
+        }
+        return changes;
+    }
+
+    private record PendingKey(long userId, Long taskId) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskmanager.changebus;
+
+import com.taskmanager.model.Task;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * JPA üzerinden yapılan her görev yazmasını {@link TaskChangeBus}'a bildirir; servislerin
+ * tek tek yayın yapması gerekmez. JDBC ve toplu JPQL yazmaları bu listener'ı tetiklemez,
+ * onlar için {@link TaskChange#allTasksOf(long)} ayrıca yayınlanır.
+ *
+ * <p>Hibernate listener'ı Spring bean'i olarak oluşturur; bus henüz yoksa (ör. başlangıçta)
+ * bildirim atlanır.
+ */
+public class TaskChangeEntityListener {
+
+    private final ObjectProvider<TaskChangeBus> changeBus;
+
+    public TaskChangeEntityListener(ObjectProvider<TaskChangeBus> changeBus) {
+        this.changeBus = changeBus;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void saved(Task task) {
+        changeBus.ifAvailable(bus -> bus.publish(
+                TaskChange.saved(task.getUser().getId(), task.getId(), version(task))));
+    }
+
+    @PostRemove
+    public void removed(Task task) {
+        changeBus.ifAvailable(bus -> bus.publish(
+                TaskChange.deleted(task.getUser().getId(), task.getId(), version(task) + 1)));
+    }
+
+    private static long version(Task task) {
+        return task.getVersion() == null ? 0 : task.getVersion();
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskmanager.changebus;
+
+import java.util.List;
+
+/**
+ * Diğer instance'larda yapılan görev değişikliklerini alan yerel bileşen (önbellekler, sayaçlar).
+ * Instance'ın kendi yaptığı değişiklikler bu arayüzle tekrar bildirilmez.
+ */
+public interface TaskChangeListener {
+
+    void onTaskChanges(List<TaskChange> changes);
+
+    /**
+     * Bağlantı koptuğu için aradaki bildirimler kaçırılmış olabilir;
+     * görev verisine bağlı tüm yerel durum geçersiz sayılmalıdır.
+     */
+    void onResync();
+}
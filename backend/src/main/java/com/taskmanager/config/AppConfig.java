@@ -1,11 +1,16 @@
 package com.taskmanager.config;
 
+import com.taskmanager.ratelimit.AdmissionProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
+@EnableScheduling
+@EnableConfigurationProperties(AdmissionProperties.class)
 public class AppConfig {
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -0,0 +1,42 @@
+package com.taskmanager.config;
+
+import com.taskmanager.changebus.ChangeTransport;
+import com.taskmanager.changebus.InMemoryChangeTransport;
+import com.taskmanager.changebus.PostgresChangeTransport;
+import com.taskmanager.changebus.TaskChangeBus;
+import com.taskmanager.changebus.TaskChangeListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+public class ChangeBusConfig {
+
+    /** Birden fazla instance aynı veritabanını paylaşıyorsa değişiklikler NOTIFY ile duyurulur. */
+    @Bean
+    @ConditionalOnProperty(name = "changebus.transport", havingValue = "postgres", matchIfMissing = true)
+    public ChangeTransport postgresChangeTransport(JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties,
+                                                   @Value("${changebus.channel:task_changes}") String channel) {
+        return new PostgresChangeTransport(jdbcTemplate, dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword(), channel);
+    }
+
+    /** Tek instance'lı kurulumlar ve testler için. */
+    @Bean
+    @ConditionalOnProperty(name = "changebus.transport", havingValue = "memory")
+    public ChangeTransport inMemoryChangeTransport() {
+        return new InMemoryChangeTransport();
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public TaskChangeBus taskChangeBus(ChangeTransport transport, List<TaskChangeListener> listeners,
+                                       @Value("${changebus.flush-interval:50ms}") Duration flushInterval) {
+        return new TaskChangeBus(transport, listeners, flushInterval);
+    }
+}
@@ -2,12 +2,29 @@ package com.taskmanager.controller;
 
 import com.taskmanager.dto.DtoTask;
 import com.taskmanager.dto.DtoTaskIU;
+import com.taskmanager.dto.DtoTaskImport;
+import com.taskmanager.dto.DtoTaskMove;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.service.ITaskImportService;
+import com.taskmanager.service.ITaskSeriesService;
 import com.taskmanager.service.ITaskService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -16,6 +33,15 @@ public class TaskController {
     @Autowired
     private ITaskService taskService;
 
+    @Autowired
+    private ITaskImportService taskImportService;
+
+    @Autowired
+    private ITaskSeriesService taskSeriesService;
+
+    @Value("${taskmanager.import.upload-timeout:1h}")
+    private Duration importUploadTimeout;
+
     @PostMapping("/save")
     public DtoTask saveTask(@RequestBody @Valid DtoTaskIU dtoTaskIU) {
         return taskService.saveTask(dtoTaskIU);
@@ -41,8 +67,78 @@ public class TaskController {
         taskService.deleteTask(id);
     }
 
+    // Kanban: görevi bir sütuna, afterTaskId'nin altına (boşsa en üste) taşır
+    @PutMapping("/move/{id}")
+    public DtoTask moveTask(@PathVariable Long id, @RequestBody @Valid DtoTaskMove dtoTaskMove) {
+        return taskService.moveTask(id, dtoTaskMove);
+    }
+
     @GetMapping("/user/{userId}")
     public List<DtoTask> getTasksByUserId(@PathVariable Long userId) {
         return taskService.getTasksByUserId(userId);
     }
+
+    @GetMapping("/user/{userId}/upcoming")
+    public List<DtoTask> getUpcomingTasks(@PathVariable Long userId,
+                                          @RequestParam(defaultValue = "5") int limit,
+                                          @RequestParam(required = false) TaskStatus status) {
+        return taskService.getUpcomingTasks(userId, limit, status);
+    }
+
+    @GetMapping("/user/{userId}/board/{status}")
+    public List<DtoTask> getBoardColumn(@PathVariable Long userId, @PathVariable TaskStatus status) {
+        return taskService.getBoardColumn(userId, status);
+    }
+
+    // Tekil görevler ve tekrarlayan serilerin bu aralıktaki tekrarları
+    @GetMapping("/user/{userId}/calendar")
+    public List<DtoTask> getCalendar(@PathVariable Long userId,
+                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return taskSeriesService.getCalendar(userId, from, to);
+    }
+
+    // Dosya ham istek gövdesi olarak gönderilir (multipart değil) ve içe aktarma thread'inde akış halinde okunur.
+    // İstemci kimliği kendisi seçerse yükleme sürerken GET /import/{importId} ile ilerlemeyi izleyebilir.
+    @PutMapping("/import/{importId}")
+    public DeferredResult<DtoTaskImport> importTasks(@PathVariable String importId,
+                                                     @RequestParam(value = "format", required = false) String format,
+                                                     @RequestParam(value = "fileName", required = false) String fileName,
+                                                     HttpServletRequest request) throws IOException {
+        DeferredResult<DtoTaskImport> result = new DeferredResult<>(importUploadTimeout.toMillis());
+        taskImportService.importTasks(importId, request.getInputStream(), request.getContentType(), format, fileName)
+                .whenComplete((dto, error) -> {
+                    if (error != null) {
+                        result.setErrorResult(error);
+                    } else {
+                        result.setResult(dto);
+                    }
+                });
+        return result;
+    }
+
+    @PostMapping("/import")
+    public DeferredResult<DtoTaskImport> importTasks(@RequestParam(value = "format", required = false) String format,
+                                                     @RequestParam(value = "fileName", required = false) String fileName,
+                                                     HttpServletRequest request) throws IOException {
+        return importTasks(UUID.randomUUID().toString(), format, fileName, request);
+    }
+
+    @GetMapping("/import")
+    public List<DtoTaskImport> getImports() {
+        return taskImportService.getImports();
+    }
+
+    @GetMapping("/import/{importId}")
+    public DtoTaskImport getImport(@PathVariable String importId) {
+        return taskImportService.getImport(importId);
+    }
+
+    @GetMapping("/import/{importId}/errors")
+    public ResponseEntity<Resource> getImportErrors(@PathVariable String importId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"import-" + importId + "-errors.csv\"")
+                .body(taskImportService.getErrorFile(importId));
+    }
 }
@@ -0,0 +1,60 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.dto.DtoTask;
+import com.taskmanager.dto.DtoTaskIU;
+import com.taskmanager.dto.DtoTaskSeries;
+import com.taskmanager.dto.DtoTaskSeriesIU;
+import com.taskmanager.service.ITaskSeriesService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/series")
+public class TaskSeriesController {
+
+    @Autowired
+    private ITaskSeriesService taskSeriesService;
+
+    @PostMapping("/save")
+    public DtoTaskSeries saveSeries(@RequestBody @Valid DtoTaskSeriesIU dtoTaskSeriesIU) {
+        return taskSeriesService.saveSeries(dtoTaskSeriesIU);
+    }
+
+    @GetMapping("/list/{id}")
+    public DtoTaskSeries getSeriesById(@PathVariable Long id) {
+        return taskSeriesService.getSeriesById(id);
+    }
+
+    @GetMapping("/user/{userId}")
+    public List<DtoTaskSeries> getSeriesByUserId(@PathVariable Long userId) {
+        return taskSeriesService.getSeriesByUserId(userId);
+    }
+
+    @PutMapping("/update/{id}")
+    public DtoTaskSeries updateSeries(@PathVariable Long id, @RequestBody @Valid DtoTaskSeriesIU dtoTaskSeriesIU) {
+        return taskSeriesService.updateSeries(id, dtoTaskSeriesIU);
+    }
+
+    @DeleteMapping("/delete/{id}")
+    public void deleteSeries(@PathVariable Long id) {
+        taskSeriesService.deleteSeries(id);
+    }
+
+    @PutMapping("/{id}/occurrences/{date}")
+    public DtoTask saveOccurrence(@PathVariable Long id,
+                                  @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                  @RequestBody @Valid DtoTaskIU dtoTaskIU) {
+        return taskSeriesService.saveOccurrence(id, date, dtoTaskIU);
+    }
+
+    @DeleteMapping("/{id}/occurrences/{date}")
+    public void deleteOccurrence(@PathVariable Long id,
+                                 @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        taskSeriesService.deleteOccurrence(id, date);
+    }
+}
@@ -67,6 +67,11 @@ public class UserController {
         return ResponseEntity.ok(dto);
     }
 
+    @GetMapping("/email-available")
+    public Map<String, Boolean> isEmailAvailable(@RequestParam String email) {
+        return Map.of("available", userService.isEmailAvailable(email));
+    }
+
     @PutMapping("/profile/{id}")
     public DtoUser updateProfile(@PathVariable Long id, @RequestBody @Valid DtoUserUpdate dtoUserUpdate) {
         return userService.updateProfile(id, dtoUserUpdate);
@@ -17,4 +17,6 @@ public class DtoTask {
     private TaskStatus status;
     private LocalDate dueDate;
     private Long userId;
+    private Long seriesId;
+    private LocalDate occurrenceDate;
 }
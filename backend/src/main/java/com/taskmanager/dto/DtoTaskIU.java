@@ -1,8 +1,10 @@
 package com.taskmanager.dto;
 
+import com.taskmanager.model.Task;
 import com.taskmanager.model.TaskStatus;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.*;
 
 import java.time.LocalDate;
@@ -15,6 +17,7 @@ import java.time.LocalDate;
 public class DtoTaskIU {
 
     @NotBlank(message = "Başlık boş olamaz")
+    @Size(max = Task.TITLE_MAX_LENGTH, message = "Başlık en fazla {max} karakter olabilir")
     private String title;
 
     private String description;
@@ -0,0 +1,21 @@
+package com.taskmanager.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DtoTaskImport {
+    private String id;
+    private String fileName;
+    private String status;
+    private long processedRows;
+    private long importedRows;
+    private long failedRows;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
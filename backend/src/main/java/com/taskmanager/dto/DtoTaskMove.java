@@ -0,0 +1,19 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DtoTaskMove {
+
+    @NotNull(message = "Durum boş olamaz")
+    private TaskStatus status;
+
+    // Görevin hemen üstünde kalacak görev; sütunun başına taşımak için boş bırakılır
+    private Long afterTaskId;
+}
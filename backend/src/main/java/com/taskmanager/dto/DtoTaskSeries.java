@@ -0,0 +1,27 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.RecurrenceFrequency;
+import com.taskmanager.model.TaskStatus;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DtoTaskSeries {
+    private Long id;
+    private String title;
+    private String description;
+    private TaskStatus status;
+    private RecurrenceFrequency frequency;
+    private int repeatInterval;
+    private LocalDate startDate;
+    private LocalDate untilDate;
+    private Integer occurrenceCount;
+    private Set<LocalDate> excludedDates;
+    private Long userId;
+}
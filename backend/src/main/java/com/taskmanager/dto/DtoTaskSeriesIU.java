@@ -0,0 +1,51 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.RecurrenceFrequency;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DtoTaskSeriesIU {
+
+    @NotBlank(message = "Başlık boş olamaz")
+    @Size(max = Task.TITLE_MAX_LENGTH, message = "Başlık en fazla {max} karakter olabilir")
+    private String title;
+
+    private String description;
+
+    @NotNull(message = "Durum boş olamaz")
+    private TaskStatus status;
+
+    @NotNull(message = "Tekrar sıklığı boş olamaz")
+    private RecurrenceFrequency frequency;
+
+    @Min(value = 1, message = "Tekrar aralığı en az 1 olmalıdır")
+    @Builder.Default
+    private int repeatInterval = 1;
+
+    @NotNull(message = "Başlangıç tarihi boş olamaz")
+    private LocalDate startDate;
+
+    private LocalDate untilDate;
+
+    @Min(value = 1, message = "Tekrar sayısı en az 1 olmalıdır")
+    private Integer occurrenceCount;
+
+    // Güncellemede null gönderilirse mevcut istisnalar korunur
+    private Set<LocalDate> excludedDates;
+
+    @NotNull(message = "Kullanıcı ID zorunludur")
+    private Long userId;
+}
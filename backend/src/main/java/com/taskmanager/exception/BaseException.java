@@ -1,19 +1,41 @@
 package com.taskmanager.exception;
 
+/**
+ * Uygulamanın iş kuralı hataları. Kontrol akışının bir parçası oldukları için (kayıt yok,
+ * hatalı şifre vb.) varsayılan olarak stack trace toplanmaz; mesaj da yalnızca istendiğinde oluşturulur.
+ * Hata ayıklama için {@code -Dtaskmanager.exceptions.stack-trace=true} ile stack trace açılabilir.
+ */
 public class BaseException extends RuntimeException {
+
+    private static final boolean STACK_TRACE = Boolean.getBoolean("taskmanager.exceptions.stack-trace");
+
     private final MessageType messageType;
+    private final String additionalInfo;
 
     public BaseException(MessageType messageType) {
-        super(messageType.getMessage());
-        this.messageType = messageType;
+        this(messageType, null);
     }
 
     public BaseException(MessageType messageType, String additionalInfo) {
-        super(additionalInfo != null ? messageType.getMessage() + ": " + additionalInfo : messageType.getMessage());
+        super(null, null, false, STACK_TRACE);
         this.messageType = messageType;
+        this.additionalInfo = additionalInfo;
+    }
+
+    @Override
+    public String getMessage() {
+        return formatMessage(messageType, additionalInfo);
+    }
+
+    public static String formatMessage(MessageType messageType, String additionalInfo) {
+        return additionalInfo != null ? messageType.getMessage() + ": " + additionalInfo : messageType.getMessage();
     }
 
     public MessageType getMessageType() {
         return messageType;
     }
+
+    public String getAdditionalInfo() {
+        return additionalInfo;
+    }
 }
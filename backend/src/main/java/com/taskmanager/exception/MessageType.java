@@ -16,7 +16,11 @@ public enum MessageType {
     UNAUTHORIZED("1009", "Bu işlem için yetkiniz yok"),
     REQUIRED_FIELD("1010", "Zorunlu alan eksik"),
     INVALID_DATE("1011", "Geçersiz tarih formatı"),
-    INVALID_STATUS("1012", "Geçersiz durum değeri");
+    INVALID_STATUS("1012", "Geçersiz durum değeri"),
+    UNSUPPORTED_FORMAT("1013", "Desteklenmeyen dosya formatı"),
+    FILE_READ_ERROR("1014", "Dosya okunurken hata oluştu"),
+    TOO_MANY_REQUESTS("1015", "Çok fazla istek gönderildi, lütfen daha sonra tekrar deneyin"),
+    CONCURRENT_UPDATE("1016", "Kayıt başka bir işlem tarafından değiştirildi, lütfen tekrar deneyin");
 
     private final String code;
     private final String message;
@@ -0,0 +1,164 @@
+package com.taskmanager.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+import com.taskmanager.exception.BaseException;
+import com.taskmanager.exception.MessageType;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.text.DateFormat;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hata yanıt gövdesini ({@code {"status":..,"exception":{"path":..,"timestamp":..,"message":..}}})
+ * nesne oluşturup Jackson'dan geçirmeden yazar. Mesaj kısmı {@link MessageType} (ve ek bilgi) başına
+ * bir kez oluşturulup saklanır; her hata için yalnızca yol ve zaman damgası eklenir.
+ * Çıktı, uygulamanın {@link ObjectMapper} ayarlarıyla üretilen gövdenin aynısıdır.
+ */
+@Component
+public class ErrorResponseRenderer {
+
+    private static final int MAX_CACHED_MESSAGES = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final boolean numericTimestamps;
+    private final DateTimeFormatter timestampFormat;
+    /** spring.jackson.date-format ile özel biçim verildiyse o kullanılır. */
+    private final DateFormat customDateFormat;
+
+    private final Map<HttpStatus, byte[]> prefixes = new ConcurrentHashMap<>();
+    private final Map<MessageType, byte[]> typeSuffixes = new EnumMap<>(MessageType.class);
+    /**
+     * Ek bilgili mesajlar (ör. "Görev bulunamadı"). Ek bilgi istemcinin gönderdiği kimlikleri içerebilir;
+     * en son kullanılanlar tutulur ki tekil metinler sık kullanılan mesajların yerini kalıcı olarak almasın.
+     */
+    private final Map<String, byte[]> messageSuffixes = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+            return size() > MAX_CACHED_MESSAGES;
+        }
+    };
+    private volatile CachedTimestamp lastTimestamp = new CachedTimestamp(Long.MIN_VALUE, new byte[0]);
+
+    public ErrorResponseRenderer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.numericTimestamps = objectMapper.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        // Jackson StdDateFormat ile aynı biçim (ör. 2025-06-01T12:00:00.000+00:00)
+        this.timestampFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSxxx")
+                .withZone(objectMapper.getSerializationConfig().getTimeZone().toZoneId());
+        DateFormat configured = objectMapper.getDateFormat();
+        this.customDateFormat = configured instanceof StdDateFormat ? null : configured;
+        for (MessageType type : MessageType.values()) {
+            typeSuffixes.put(type, suffix(type.getMessage()));
+        }
+    }
+
+    public byte[] render(HttpStatus status, String path, MessageType type, String additionalInfo) {
+        byte[] suffix = additionalInfo == null
+                ? typeSuffixes.get(type)
+                : cachedSuffix(BaseException.formatMessage(type, additionalInfo));
+        return assemble(status, path, suffix);
+    }
+
+    public byte[] render(HttpStatus status, String path, String message) {
+        return assemble(status, path, cachedSuffix(message));
+    }
+
+    private byte[] assemble(HttpStatus status, String path, byte[] suffix) {
+        byte[] prefix = prefixes.computeIfAbsent(status,
+                s -> ("{\"status\":" + s.value() + ",\"exception\":{\"path\":\"").getBytes(StandardCharsets.UTF_8));
+        byte[] pathBytes = escape(path).getBytes(StandardCharsets.UTF_8);
+        byte[] timestamp = timestamp();
+
+        byte[] body = new byte[prefix.length + pathBytes.length + timestamp.length + suffix.length];
+        int offset = 0;
+        System.arraycopy(prefix, 0, body, offset, prefix.length);
+        offset += prefix.length;
+        System.arraycopy(pathBytes, 0, body, offset, pathBytes.length);
+        offset += pathBytes.length;
+        System.arraycopy(timestamp, 0, body, offset, timestamp.length);
+        offset += timestamp.length;
+        System.arraycopy(suffix, 0, body, offset, suffix.length);
+        return body;
+    }
+
+    /** {@code ","timestamp":<zaman>}; aynı milisaniyedeki hatalar aynı diziyi paylaşır. */
+    private byte[] timestamp() {
+        long now = System.currentTimeMillis();
+        CachedTimestamp cached = lastTimestamp;
+        if (cached.millis != now) {
+            String value;
+            if (numericTimestamps) {
+                value = Long.toString(now);
+            } else if (customDateFormat != null) {
+                value = '"' + ((DateFormat) customDateFormat.clone()).format(new Date(now)) + '"';
+            } else {
+                value = '"' + timestampFormat.format(Instant.ofEpochMilli(now)) + '"';
+            }
+            cached = new CachedTimestamp(now, ("\",\"timestamp\":" + value).getBytes(StandardCharsets.UTF_8));
+            lastTimestamp = cached;
+        }
+        return cached.bytes;
+    }
+
+    byte[] cachedSuffix(String message) {
+        synchronized (messageSuffixes) {
+            byte[] suffix = messageSuffixes.get(message);
+            if (suffix != null) {
+                return suffix;
+            }
+        }
+        // Jackson kilit dışında çalışır; aynı mesaj aynı anda iki kez oluşturulabilir, sonuç aynıdır
+        byte[] suffix = suffix(message);
+        synchronized (messageSuffixes) {
+            messageSuffixes.put(message, suffix);
+        }
+        return suffix;
+    }
+
+    private byte[] suffix(String message) {
+        try {
+            return (",\"message\":" + objectMapper.writeValueAsString(message) + "}}").getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String escape(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                return escapeSlow(value);
+            }
+        }
+        return value;
+    }
+
+    private static String escapeSlow(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private record CachedTimestamp(long millis, byte[] bytes) {
+    }
+}
@@ -2,46 +2,70 @@ package com.taskmanager.handler;
 
 import com.taskmanager.exception.BaseException;
 import com.taskmanager.exception.MessageType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final ErrorResponseRenderer renderer;
+    private final Map<MessageType, Counter> counters = new EnumMap<>(MessageType.class);
+
+    public GlobalExceptionHandler(ErrorResponseRenderer renderer, MeterRegistry meterRegistry) {
+        this.renderer = renderer;
+        for (MessageType type : MessageType.values()) {
+            counters.put(type, meterRegistry.counter("taskmanager.errors", "type", type.name(), "code", type.getCode()));
+        }
+    }
+
     @ExceptionHandler(BaseException.class)
-    public ResponseEntity<ApiError<String>> handleBaseException(BaseException ex, WebRequest request) {
-        ApiError<String> apiError = createApiError(ex.getMessage(), request, HttpStatus.BAD_REQUEST);
-        return new ResponseEntity<>(apiError, HttpStatus.BAD_REQUEST);
+    public ResponseEntity<byte[]> handleBaseException(BaseException ex, WebRequest request) {
+        counters.get(ex.getMessageType()).increment();
+        return respond(HttpStatus.BAD_REQUEST,
+                renderer.render(HttpStatus.BAD_REQUEST, path(request), ex.getMessageType(), ex.getAdditionalInfo()));
     }
 
     @ExceptionHandler(DataIntegrityViolationException.class)
-    public ResponseEntity<ApiError<String>> handleDataIntegrityViolation(DataIntegrityViolationException ex, WebRequest request) {
-        String message;
+    public ResponseEntity<byte[]> handleDataIntegrityViolation(DataIntegrityViolationException ex, WebRequest request) {
+        MessageType type;
         if (ex.getCause() instanceof ConstraintViolationException) {
             String constraintName = ((ConstraintViolationException) ex.getCause()).getConstraintName();
             if (constraintName != null && constraintName.contains("email")) {
-                message = MessageType.EMAIL_IN_USE.getMessage();
+                type = MessageType.EMAIL_IN_USE;
             } else {
-                message = MessageType.DATABASE_ERROR.getMessage();
+                type = MessageType.DATABASE_ERROR;
             }
         } else {
-            message = MessageType.DATABASE_ERROR.getMessage();
+            type = MessageType.DATABASE_ERROR;
         }
 
-        ApiError<String> apiError = createApiError(message, request, HttpStatus.BAD_REQUEST);
-        return new ResponseEntity<>(apiError, HttpStatus.BAD_REQUEST);
+        counters.get(type).increment();
+        return respond(HttpStatus.BAD_REQUEST, renderer.render(HttpStatus.BAD_REQUEST, path(request), type, null));
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<byte[]> handleOptimisticLockingFailure(OptimisticLockingFailureException ex, WebRequest request) {
+        counters.get(MessageType.CONCURRENT_UPDATE).increment();
+        return respond(HttpStatus.CONFLICT,
+                renderer.render(HttpStatus.CONFLICT, path(request), MessageType.CONCURRENT_UPDATE, null));
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -56,15 +80,27 @@ public class GlobalExceptionHandler {
             errors.put(error.getField(), message);
         });
 
+        counters.get(MessageType.VALIDATION_ERROR).increment();
         ApiError<Map<String, String>> apiError = createApiError(errors, request, HttpStatus.BAD_REQUEST);
         return new ResponseEntity<>(apiError, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiError<String>> handleGeneralException(Exception ex, WebRequest request) {
-        String message = MessageType.GENERAL_EXCEPTION.getMessage();
-        ApiError<String> apiError = createApiError(message, request, HttpStatus.INTERNAL_SERVER_ERROR);
-        return new ResponseEntity<>(apiError, HttpStatus.INTERNAL_SERVER_ERROR);
+    public ResponseEntity<byte[]> handleGeneralException(Exception ex, WebRequest request) {
+        counters.get(MessageType.GENERAL_EXCEPTION).increment();
+        return respond(HttpStatus.INTERNAL_SERVER_ERROR,
+                renderer.render(HttpStatus.INTERNAL_SERVER_ERROR, path(request), MessageType.GENERAL_EXCEPTION, null));
+    }
+
+    private static ResponseEntity<byte[]> respond(HttpStatus status, byte[] body) {
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private static String path(WebRequest request) {
+        if (request instanceof ServletWebRequest servletRequest) {
+            return servletRequest.getRequest().getRequestURI();
+        }
+        return request.getDescription(false).replace("uri=", "");
     }
 
     private <E> ApiError<E> createApiError(E message, WebRequest request, HttpStatus status) {
@@ -73,7 +109,7 @@ public class GlobalExceptionHandler {
 
         ExceptionDetail<E> exceptionDetail = new ExceptionDetail<>();
         exceptionDetail.setMessage(message);
-        exceptionDetail.setPath(request.getDescription(false).replace("uri=", ""));
+        exceptionDetail.setPath(path(request));
         exceptionDetail.setTimestamp(new Date());
 
         apiError.setException(exceptionDetail);
@@ -82,14 +118,14 @@ public class GlobalExceptionHandler {
 
     @Getter
     @Setter
-    private static class ApiError<T> {
+    static class ApiError<T> {
         private int status;
         private ExceptionDetail<T> exception;
     }
 
     @Getter
     @Setter
-    private static class ExceptionDetail<T> {
+    static class ExceptionDetail<T> {
         private String path;
         private Date timestamp;
         private T message;
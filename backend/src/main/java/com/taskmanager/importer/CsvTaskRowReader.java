@@ -0,0 +1,172 @@
+package com.taskmanager.importer;
+
+import com.taskmanager.dto.DtoTaskIU;
+import com.taskmanager.model.TaskStatus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Başlık satırı olan CSV dosyasını okur. Beklenen sütunlar:
+ * {@code title, description, status, dueDate, userId} (sıra serbest, description ve dueDate isteğe bağlı).
+ * Tırnak içindeki virgül, çift tırnak ve satır sonları desteklenir.
+ */
+public class CsvTaskRowReader implements TaskRowReader {
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long lineNumber;
+
+    public CsvTaskRowReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        readHeader();
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new TaskRowException("Dosya boş");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String required : new String[]{"title", "status", "userid"}) {
+            if (!columns.containsKey(required)) {
+                throw new TaskRowException("Eksik sütun: " + required);
+            }
+        }
+    }
+
+    @Override
+    public DtoTaskIU next() throws IOException {
+        List<String> record;
+        do {
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isBlank());
+
+        DtoTaskIU dto = new DtoTaskIU();
+        dto.setTitle(value(record, "title"));
+        dto.setDescription(value(record, "description"));
+        dto.setStatus(parseStatus(value(record, "status")));
+        dto.setDueDate(parseDate(value(record, "duedate")));
+        dto.setUserId(parseUserId(value(record, "userid")));
+        return dto;
+    }
+
+    private String value(List<String> record, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private TaskStatus parseStatus(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return TaskStatus.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new TaskRowException("Geçersiz durum değeri: " + value);
+        }
+    }
+
+    private LocalDate parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new TaskRowException("Geçersiz tarih formatı: " + value);
+        }
+    }
+
+    private Long parseUserId(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new TaskRowException("Geçersiz kullanıcı ID: " + value);
+        }
+    }
+
+    /**
+     * RFC 4180 kurallarına göre tek bir kaydı okur. Tırnak içinde satır sonu varsa
+     * kayıt birden fazla fiziksel satıra yayılabilir.
+     */
+    private List<String> readRecord() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i >= line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                // Tırnak açık kaldı, kayıt bir sonraki satırda devam ediyor
+                line = reader.readLine();
+                if (line == null) {
+                    throw new TaskRowException("Kapanmamış tırnak");
+                }
+                lineNumber++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c == '"') {
+                    if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Override
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,51 @@
+package com.taskmanager.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.dto.DtoTaskIU;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Her satırı bağımsız bir JSON nesnesi olarak okur (NDJSON).
+ */
+public class NdjsonTaskRowReader implements TaskRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+
+    public NdjsonTaskRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public DtoTaskIU next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            return objectMapper.readValue(line, DtoTaskIU.class);
+        } catch (JsonProcessingException e) {
+            throw new TaskRowException("Geçersiz JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
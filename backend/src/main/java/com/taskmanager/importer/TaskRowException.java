@@ -0,0 +1,12 @@
+package com.taskmanager.importer;
+
+/**
+ * Tek bir satırın çözümlenemediğini belirtir. Tüm içe aktarmayı durdurmaz,
+ * hata dosyasına yazılır. Hatalı satır sayısı dosya boyutuyla büyüyebileceği için stack trace toplanmaz.
+ */
+public class TaskRowException extends RuntimeException {
+
+    public TaskRowException(String message) {
+        super(message, null, false, false);
+    }
+}
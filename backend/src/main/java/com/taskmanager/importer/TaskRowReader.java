@@ -0,0 +1,22 @@
+package com.taskmanager.importer;
+
+import com.taskmanager.dto.DtoTaskIU;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * İçe aktarma dosyasını satır satır okur. Dosya asla tamamen belleğe alınmaz,
+ * her çağrıda yalnızca bir satır çözümlenir.
+ */
+public interface TaskRowReader extends Closeable {
+
+    /**
+     * Bir sonraki satırı okur. Dosya sonunda {@code null} döner.
+     * Satır çözümlenemezse {@link TaskRowException} fırlatılır; okuma bir sonraki satırdan devam edebilir.
+     */
+    DtoTaskIU next() throws IOException;
+
+    /** Son okunan satırın dosyadaki numarası (1'den başlar). */
+    long getLineNumber();
+}
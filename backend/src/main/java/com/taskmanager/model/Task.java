@@ -1,12 +1,15 @@
 package com.taskmanager.model;
 
+import com.taskmanager.changebus.TaskChangeEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.OptimisticLock;
 
 import java.time.LocalDate;
 
 @Entity
 @Table(name = "tasks")
+@EntityListeners(TaskChangeEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,11 +17,13 @@ import java.time.LocalDate;
 @Builder
 public class Task {
 
+    public static final int TITLE_MAX_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, length = 100)
+    @Column(nullable = false, length = TITLE_MAX_LENGTH)
     private String title;
 
     @Column(columnDefinition = "TEXT")
@@ -33,4 +38,25 @@ public class Task {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
+
+    /** Tekrarlayan bir serinin saklanmış tekrarıysa ait olduğu seri. */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "series_id")
+    private TaskSeries series;
+
+    /** Serideki tekrarın asıl tarihi; dueDate değiştirilse bile tekrarı tanımlar. */
+    private LocalDate occurrenceDate;
+
+    /**
+     * Kullanıcının aynı durumdaki görevleri (Kanban sütunu) içindeki sırası; {@link com.taskmanager.util.RankKey}.
+     * Toplu eklenen görevlerde arka planda atanana kadar boştur, bu görevler sütunun sonunda listelenir.
+     * Yalnızca sıranın değişmesi sürümü artırmaz; yeniden numaralandırma eşzamanlı düzenlemelerle çakışmaz.
+     */
+    @Column(name = "board_rank")
+    @OptimisticLock(excluded = true)
+    private String rank;
+
+    /** Her güncellemede artar; eşzamanlı güncellemeleri ve instance'lar arası değişiklik sırasını belirler. */
+    @Version
+    private Long version;
 }
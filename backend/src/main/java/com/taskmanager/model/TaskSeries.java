@@ -0,0 +1,65 @@
+package com.taskmanager.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Tekrarlayan görev serisi. Tekrarlar tabloya yazılmaz; istenen tarih aralığı için
+ * sorgu anında hesaplanır. Yalnızca değiştirilen veya tamamlanan tekrarlar
+ * {@link Task} satırı olarak saklanır ({@code series_id}, {@code occurrence_date}).
+ */
+@Entity
+@Table(name = "task_series")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskSeries {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = Task.TITLE_MAX_LENGTH)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    /** Henüz saklanmamış tekrarların durumu. */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RecurrenceFrequency frequency;
+
+    /** Her kaç gün/hafta/ayda bir tekrarlanacağı. */
+    @Column(nullable = false)
+    private int repeatInterval;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    /** Son tekrarın olabileceği tarih. occurrenceCount verildiyse ondan hesaplanır. */
+    private LocalDate untilDate;
+
+    private Integer occurrenceCount;
+
+    /** Seriden çıkarılmış (silinmiş) tekrarların tarihleri. */
+    @ElementCollection
+    @CollectionTable(name = "task_series_exceptions", joinColumns = @JoinColumn(name = "series_id"))
+    @Column(name = "occurrence_date", nullable = false)
+    @Builder.Default
+    private Set<LocalDate> excludedDates = new HashSet<>();
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+}
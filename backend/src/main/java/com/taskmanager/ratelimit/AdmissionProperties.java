@@ -0,0 +1,45 @@
+package com.taskmanager.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code admission.*} ayarları. Uç nokta grupları {@link EndpointGroup} ile eşleşir;
+ * tanımlanmayan gruplar {@code default} değerlerini kullanır.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+
+    /** Bu süre boyunca kullanılmayan kovalar bellekten silinir. */
+    private Duration idleTimeout = Duration.ofMinutes(5);
+
+    private Limit defaults = new Limit();
+
+    private Map<EndpointGroup, Limit> endpoints = new HashMap<>();
+
+    public Limit limitFor(EndpointGroup group) {
+        return endpoints.getOrDefault(group, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        /** İstemci başına saniyedeki istek sayısı. */
+        private double userRate = 20;
+        private int userBurst = 40;
+        /** İstemci başına aynı anda işlenebilecek istek sayısı. */
+        private int userConcurrency = 8;
+        /** Uç nokta grubunun tüm istemciler için toplam saniyedeki istek sayısı. */
+        private double endpointRate = 2000;
+        private int endpointBurst = 4000;
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskmanager.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tek bir istemcinin (kullanıcı veya IP) bir uç nokta grubu için hız ve eşzamanlılık sınırı.
+ */
+public class ClientLimiter {
+
+    private final TokenBucket bucket;
+    private final int maxConcurrent;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public ClientLimiter(TokenBucket bucket, int maxConcurrent) {
+        this.bucket = bucket;
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    public TokenBucket getBucket() {
+        return bucket;
+    }
+
+    /** Eşzamanlı istek sayısı sınırın altındaysa bir yer ayırır. Kilit yerine CAS kullanır. */
+    public boolean tryEnter() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxConcurrent) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void exit() {
+        inFlight.decrementAndGet();
+    }
+
+    public boolean isIdle(long nowNanos, long idleNanos) {
+        return inFlight.get() == 0 && bucket.isIdle(nowNanos, idleNanos);
+    }
+}
@@ -0,0 +1,8 @@
+package com.taskmanager.ratelimit;
+
+public enum EndpointGroup {
+    LOGIN,
+    USER_TASKS,
+    TASK_IMPORT,
+    DEFAULT
+}
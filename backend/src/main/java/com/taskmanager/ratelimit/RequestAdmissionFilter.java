@@ -0,0 +1,280 @@
+package com.taskmanager.ratelimit;
+
+import com.taskmanager.exception.MessageType;
+import com.taskmanager.handler.ErrorResponseRenderer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Veritabanı havuzunu tek bir istemcinin tüketmesini engelleyen istek kabul filtresi.
+ * Her istek hem uç nokta grubunun toplam kovasından hem de istemciye ait kovadan token alır;
+ * ayrıca istemci başına eşzamanlı istek sayısı sınırlanır. Sınır aşılırsa {@code 429}
+ * ve {@code Retry-After} başlığı döner.
+ *
+ * <p>İstemci, oturum açmış kullanıcı veya uzak adrestir. URL'deki kullanıcı kimliği istemciyi
+ * belirlemez (aksi halde farklı id'ler deneyen bir istemci her id için yeni bir kova alırdı);
+ * aynı kullanıcının verisine gelen toplam yükü sınırlayan ek bir boyuttur ve istemci sınırını
+ * geçen isteklerde oluşturulur. Token'lar ancak tüm sınırlar izin veriyorsa alınır.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestAdmissionFilter extends OncePerRequestFilter {
+
+    private static final Pattern USER_TASKS_PATH = Pattern.compile("^/api/tasks/user/(\\d+)(/.*)?$");
+    private static final Pattern USER_PATH = Pattern.compile("^/api/(?:users/(?:list|update|delete|profile)|series/user)/(\\d+)$");
+
+    private final AdmissionProperties properties;
+    private final ErrorResponseRenderer errorRenderer;
+    private final Map<String, ClientLimiter> clients = new ConcurrentHashMap<>();
+    private final Map<EndpointGroup, TokenBucket> endpoints = new EnumMap<>(EndpointGroup.class);
+    private final Map<EndpointGroup, Counter> admitted = new EnumMap<>(EndpointGroup.class);
+    private final Map<EndpointGroup, Counter> rejectedRate = new EnumMap<>(EndpointGroup.class);
+    private final Map<EndpointGroup, Counter> rejectedConcurrency = new EnumMap<>(EndpointGroup.class);
+    private final Counter evicted;
+
+    public RequestAdmissionFilter(AdmissionProperties properties, ErrorResponseRenderer errorRenderer,
+                                  MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.errorRenderer = errorRenderer;
+        long now = System.nanoTime();
+        for (EndpointGroup group : EndpointGroup.values()) {
+            AdmissionProperties.Limit limit = properties.limitFor(group);
+            endpoints.put(group, new TokenBucket(limit.getEndpointRate(), limit.getEndpointBurst(), now));
+            String tag = group.name().toLowerCase(Locale.ROOT);
+            admitted.put(group, meterRegistry.counter("taskmanager.admission.admitted", "endpoint", tag));
+            rejectedRate.put(group, meterRegistry.counter("taskmanager.admission.rejected", "endpoint", tag, "reason", "rate"));
+            rejectedConcurrency.put(group, meterRegistry.counter("taskmanager.admission.rejected", "endpoint", tag, "reason", "concurrency"));
+        }
+        this.evicted = meterRegistry.counter("taskmanager.admission.evicted");
+        meterRegistry.gaugeMapSize("taskmanager.admission.clients", List.of(), clients);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !request.getRequestURI().startsWith("/api/")
+                || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI();
+        EndpointGroup group = classify(request.getMethod(), path);
+        long now = System.nanoTime();
+        TokenBucket endpoint = endpoints.get(group);
+
+        ClientLimiter client = limiter(group, clientId(request), now);
+        long wait = Math.max(client.getBucket().peek(now), endpoint.peek(now));
+        if (wait > 0) {
+            rejectRate(response, path, group, wait);
+            return;
+        }
+        String pathUser = pathUserId(path);
+        ClientLimiter user = pathUser == null ? null : limiter(group, "u" + pathUser, now);
+        if (user != null && (wait = user.getBucket().peek(now)) > 0) {
+            rejectRate(response, path, group, wait);
+            return;
+        }
+
+        if (!client.tryEnter()) {
+            rejectConcurrency(response, path, group);
+            return;
+        }
+        if (user != null && !user.tryEnter()) {
+            client.exit();
+            rejectConcurrency(response, path, group);
+            return;
+        }
+        boolean releaseOnAsyncComplete = false;
+        try {
+            // Kontrolden sonra başka bir istek son token'ı almış olabilir
+            wait = user == null
+                    ? acquireAll(now, client.getBucket(), endpoint)
+                    : acquireAll(now, client.getBucket(), endpoint, user.getBucket());
+            if (wait > 0) {
+                rejectRate(response, path, group, wait);
+                return;
+            }
+            admitted.get(group).increment();
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // İçe aktarma gibi asenkron istekler yanıt tamamlanana kadar eşzamanlılık hakkını tutar
+                request.getAsyncContext().addListener(new ReleaseListener(client, user));
+                releaseOnAsyncComplete = true;
+            }
+        } finally {
+            if (!releaseOnAsyncComplete) {
+                release(client, user);
+            }
+        }
+    }
+
+    private static void release(ClientLimiter client, ClientLimiter user) {
+        client.exit();
+        if (user != null) {
+            user.exit();
+        }
+    }
+
+    /** Asenkron istek bittiğinde (tamamlanma, hata veya zaman aşımı) hakları bir kez geri verir. */
+    private static final class ReleaseListener implements AsyncListener {
+        private final ClientLimiter client;
+        private final ClientLimiter user;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleaseListener(ClientLimiter client, ClientLimiter user) {
+            this.client = client;
+            this.user = user;
+        }
+
+        private void releaseOnce() {
+            if (released.compareAndSet(false, true)) {
+                release(client, user);
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            releaseOnce();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            releaseOnce();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            releaseOnce();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Yeniden başlatılan asenkron işlem için dinleyici yeniden eklenmelidir
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    /** Tüm kovalardan token alır; biri reddederse önceden alınanlar geri verilir. */
+    static long acquireAll(long now, TokenBucket... buckets) {
+        for (int i = 0; i < buckets.length; i++) {
+            long wait = buckets[i].tryAcquire(now);
+            if (wait > 0) {
+                for (int j = 0; j < i; j++) {
+                    buckets[j].refund();
+                }
+                return wait;
+            }
+        }
+        return 0;
+    }
+
+    private ClientLimiter limiter(EndpointGroup group, String id, long now) {
+        return clients.computeIfAbsent(group.name() + ':' + id, key -> newClient(group, now));
+    }
+
+    private ClientLimiter newClient(EndpointGroup group, long now) {
+        AdmissionProperties.Limit limit = properties.limitFor(group);
+        return new ClientLimiter(new TokenBucket(limit.getUserRate(), limit.getUserBurst(), now), limit.getUserConcurrency());
+    }
+
+    static EndpointGroup classify(String method, String path) {
+        if ("POST".equals(method) && path.equals("/api/users/login")) {
+            return EndpointGroup.LOGIN;
+        }
+        if (path.startsWith("/api/tasks/user/")) {
+            return EndpointGroup.USER_TASKS;
+        }
+        // Yalnızca yüklemeler; ilerleme ve hata dosyası sorguları yükleme sürerken de yapılabilmeli
+        if (path.startsWith("/api/tasks/import") && ("PUT".equals(method) || "POST".equals(method))) {
+            return EndpointGroup.TASK_IMPORT;
+        }
+        return EndpointGroup.DEFAULT;
+    }
+
+    /**
+     * Oturum açmış kullanıcı varsa o, yoksa uzak adres. Vekil arkasında uzak adres
+     * {@code server.forward-headers-strategy=native} ile X-Forwarded-For'dan alınır.
+     */
+    private static String clientId(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "p" + principal.getName();
+        }
+        return "ip" + request.getRemoteAddr();
+    }
+
+    /** URL'deki kullanıcı kimliği, yoksa null. */
+    static String pathUserId(String path) {
+        Matcher matcher = USER_TASKS_PATH.matcher(path);
+        if (matcher.matches()) {
+            return matcher.group(1);
+        }
+        matcher = USER_PATH.matcher(path);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    private void rejectRate(HttpServletResponse response, String path, EndpointGroup group, long waitNanos)
+            throws IOException {
+        rejectedRate.get(group).increment();
+        reject(response, path, waitNanos);
+    }
+
+    private void rejectConcurrency(HttpServletResponse response, String path, EndpointGroup group) throws IOException {
+        rejectedConcurrency.get(group).increment();
+        reject(response, path, TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private void reject(HttpServletResponse response, String path, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        // GlobalExceptionHandler ile aynı gövde biçimi
+        response.getOutputStream().write(
+                errorRenderer.render(HttpStatus.TOO_MANY_REQUESTS, path, MessageType.TOO_MANY_REQUESTS, null));
+    }
+
+    /**
+     * Uzun süredir kullanılmayan istemci kovalarını siler; böylece bellek kullanımı
+     * aktif istemci sayısıyla sınırlı kalır. Silme işlemi yalnızca aynı nesne hâlâ
+     * haritadaysa yapılır; silme anında gelen bir istek en kötü ihtimalle dolu bir kovayla yeniden başlar.
+     */
+    @Scheduled(fixedDelayString = "${admission.eviction-interval:60000}")
+    public void evictIdleClients() {
+        long now = System.nanoTime();
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        clients.forEach((key, client) -> {
+            if (client.isIdle(now, idleNanos) && clients.remove(key, client)) {
+                evicted.increment();
+            }
+        });
+    }
+}
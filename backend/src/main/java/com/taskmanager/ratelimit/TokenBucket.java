@@ -0,0 +1,72 @@
+package com.taskmanager.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCRA (generic cell rate algorithm) ile çalışan kilitsiz token bucket.
+ * Tüm durum tek bir {@link AtomicLong} içinde tutulur: bir sonraki isteğin
+ * "teorik varış zamanı" (TAT). Kabul kararı tek bir CAS ile verilir.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param ratePerSecond saniyede yenilenen token sayısı
+     * @param burst         art arda kabul edilebilecek en fazla istek sayısı
+     * @param nowNanos      {@link System#nanoTime()} cinsinden şimdiki zaman
+     */
+    public TokenBucket(double ratePerSecond, int burst, long nowNanos) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("rate ve burst pozitif olmalıdır");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Bir token almaya çalışır.
+     *
+     * @return istek kabul edildiyse 0, aksi halde tekrar denemeden önce beklenmesi gereken süre (nanosaniye)
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = tat - nowNanos > 0 ? tat : nowNanos;
+            long wait = base - nowNanos - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(tat, base + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Token almadan, şu an bir token alınabilir mi bakar.
+     *
+     * @return alınabiliyorsa 0, aksi halde beklenmesi gereken süre (nanosaniye)
+     */
+    public long peek(long nowNanos) {
+        long tat = theoreticalArrival.get();
+        long base = tat - nowNanos > 0 ? tat : nowNanos;
+        return Math.max(0, base - nowNanos - burstToleranceNanos);
+    }
+
+    /** {@link #tryAcquire} ile alınan token'ı geri verir (istek başka bir sınıra takıldıysa). */
+    public void refund() {
+        theoreticalArrival.addAndGet(-emissionIntervalNanos);
+    }
+
+    /**
+     * Kova tamamen dolmuş ve en az {@code idleNanos} süredir kullanılmamışsa true döner.
+     * Böyle bir kova silinip yeniden oluşturulursa davranış değişmez.
+     */
+    public boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - theoreticalArrival.get() > idleNanos;
+    }
+}
@@ -1,12 +1,79 @@
 package com.taskmanager.repository;
 
 import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByUserId(Long userId);
+
+    // idx_tasks_user_upcoming üzerinden ORDER BY due_date LIMIT k; DONE sabit olarak yazılır ki kısmi indeks kullanılabilsin
+    @Query("select t from Task t where t.user.id = :userId and t.status <> com.taskmanager.model.TaskStatus.DONE " +
+            "and t.dueDate >= :from order by t.dueDate asc, t.id asc")
+    List<Task> findUpcoming(@Param("userId") Long userId, @Param("from") LocalDate from, Pageable pageable);
+
+    // idx_tasks_user_due_date üzerinden, durum okunan satırlarda süzülür
+    @Query("select t from Task t where t.user.id = :userId and t.status = :status " +
+            "and t.dueDate >= :from order by t.dueDate asc, t.id asc")
+    List<Task> findUpcomingByStatus(@Param("userId") Long userId, @Param("status") TaskStatus status,
+                                    @Param("from") LocalDate from, Pageable pageable);
+
+    List<Task> findByUserIdAndDueDateBetween(Long userId, LocalDate from, LocalDate to);
+
+    Optional<Task> findBySeriesIdAndOccurrenceDate(Long seriesId, LocalDate occurrenceDate);
+
+    List<Task> findBySeriesId(Long seriesId);
+
+    // Aralıkta saklanmış tekrarlar: [seriesId, occurrenceDate]
+    @Query("select t.series.id, t.occurrenceDate from Task t " +
+            "where t.series.id in :seriesIds and t.occurrenceDate between :from and :to")
+    List<Object[]> findMaterializedOccurrences(@Param("seriesIds") Collection<Long> seriesIds,
+                                               @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("delete from Task t where t.series.id = :seriesId")
+    void deleteBySeriesId(@Param("seriesId") Long seriesId);
+
+    // Kanban sütunu idx_tasks_user_status_rank sırasıyla okunur; sırası atanmamış görevler sondadır
+    @Query("select t from Task t where t.user.id = :userId and t.status = :status order by t.rank asc nulls last, t.id asc")
+    List<Task> findColumn(@Param("userId") Long userId, @Param("status") TaskStatus status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.user.id = :userId and t.status = :status order by t.rank asc nulls last, t.id asc")
+    List<Task> findColumnForUpdate(@Param("userId") Long userId, @Param("status") TaskStatus status);
+
+    @Query("select max(t.rank) from Task t where t.user.id = :userId and t.status = :status")
+    Optional<String> findLastRank(@Param("userId") Long userId, @Param("status") TaskStatus status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.id = :id")
+    Optional<Task> findByIdForUpdate(@Param("id") Long id);
+
+    // Taşımada alt komşunun hemen altındaki görev; eşit sıralar id ile ayrılır
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.user.id = :userId and t.status = :status and t.id <> :movedId " +
+            "and (t.rank > :rank or (t.rank = :rank and t.id > :afterId) or t.rank is null) " +
+            "order by t.rank asc nulls last, t.id asc")
+    List<Task> findNextInColumn(@Param("userId") Long userId, @Param("status") TaskStatus status,
+                                @Param("rank") String rank, @Param("afterId") Long afterId,
+                                @Param("movedId") Long movedId, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Task t where t.user.id = :userId and t.status = :status and t.id <> :movedId " +
+            "order by t.rank asc nulls last, t.id asc")
+    List<Task> findFirstInColumn(@Param("userId") Long userId, @Param("status") TaskStatus status,
+                                 @Param("movedId") Long movedId, Pageable pageable);
 }
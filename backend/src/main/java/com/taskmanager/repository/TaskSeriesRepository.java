@@ -0,0 +1,21 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.model.TaskSeries;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TaskSeriesRepository extends JpaRepository<TaskSeries, Long> {
+
+    List<TaskSeries> findByUserId(Long userId);
+
+    // Aralıkla kesişen seriler, istisna tarihleri ile birlikte tek sorguda
+    @Query("select distinct s from TaskSeries s left join fetch s.excludedDates " +
+            "where s.user.id = :userId and s.startDate <= :to and (s.untilDate is null or s.untilDate >= :from)")
+    List<TaskSeries> findActiveInRange(@Param("userId") Long userId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
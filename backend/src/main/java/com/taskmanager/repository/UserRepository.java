@@ -2,6 +2,8 @@ package com.taskmanager.repository;
 
 import com.taskmanager.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,4 +13,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
+    // lower(email) üzerindeki benzersiz indeksi kullanır; parametre normalize edilmiş olmalıdır
+    @Query("select u from User u where lower(u.email) = :email")
+    Optional<User> findByNormalizedEmail(@Param("email") String email);
+
+    @Query("select count(u) > 0 from User u where lower(u.email) = :email")
+    boolean existsByNormalizedEmail(@Param("email") String email);
+
 }
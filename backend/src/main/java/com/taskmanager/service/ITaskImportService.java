@@ -0,0 +1,24 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.DtoTaskImport;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface ITaskImportService {
+
+    /**
+     * İçe aktarmayı kayıt edip arka planda başlatır; gövde içe aktarma thread'inde akış halinde okunur.
+     * İlerleme {@link #getImport(String)} ile izlenir, dönen future iş bitince tamamlanır.
+     */
+    CompletableFuture<DtoTaskImport> importTasks(String importId, InputStream body, String contentType,
+                                                 String format, String fileName);
+
+    DtoTaskImport getImport(String id);
+
+    List<DtoTaskImport> getImports();
+
+    Resource getErrorFile(String id);
+}
@@ -0,0 +1,28 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.DtoTask;
+import com.taskmanager.dto.DtoTaskIU;
+import com.taskmanager.dto.DtoTaskSeries;
+import com.taskmanager.dto.DtoTaskSeriesIU;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ITaskSeriesService {
+
+    DtoTaskSeries saveSeries(DtoTaskSeriesIU dtoTaskSeriesIU);
+
+    DtoTaskSeries getSeriesById(Long id);
+
+    List<DtoTaskSeries> getSeriesByUserId(Long userId);
+
+    DtoTaskSeries updateSeries(Long id, DtoTaskSeriesIU dtoTaskSeriesIU);
+
+    void deleteSeries(Long id);
+
+    DtoTask saveOccurrence(Long seriesId, LocalDate occurrenceDate, DtoTaskIU dtoTaskIU);
+
+    void deleteOccurrence(Long seriesId, LocalDate occurrenceDate);
+
+    List<DtoTask> getCalendar(Long userId, LocalDate from, LocalDate to);
+}
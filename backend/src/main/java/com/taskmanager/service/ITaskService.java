@@ -2,6 +2,8 @@ package com.taskmanager.service;
 
 import com.taskmanager.dto.DtoTask;
 import com.taskmanager.dto.DtoTaskIU;
+import com.taskmanager.dto.DtoTaskMove;
+import com.taskmanager.model.TaskStatus;
 
 import java.util.List;
 
@@ -17,5 +19,11 @@ public interface ITaskService {
 
     void deleteTask(Long id);
 
+    DtoTask moveTask(Long id, DtoTaskMove dtoTaskMove);
+
+    List<DtoTask> getBoardColumn(Long userId, TaskStatus status);
+
     List<DtoTask> getTasksByUserId(Long userId);
+
+    List<DtoTask> getUpcomingTasks(Long userId, int limit, TaskStatus status);
 }
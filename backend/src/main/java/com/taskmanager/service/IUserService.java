@@ -23,4 +23,6 @@ public interface IUserService {
     Optional<User> login(String email, String rawPassword);
 
     DtoUser updateProfile(Long id, DtoUserUpdate dtoUserUpdate);
+
+    boolean isEmailAvailable(String email);
 }
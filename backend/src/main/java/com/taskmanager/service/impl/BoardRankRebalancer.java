@@ -0,0 +1,83 @@
+package com.taskmanager.service.impl;
+
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.util.RankKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sıra anahtarları uzayan veya sırası atanmamış görevleri olan Kanban sütunlarını
+ * eşit aralıklı kısa anahtarlarla yeniden numaralandırır. Taşımalar yalnızca sütunu
+ * işaretler; yeniden numaralandırma arka planda, sütun kilitlenerek yapılır.
+ */
+@Component
+public class BoardRankRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(BoardRankRebalancer.class);
+
+    /** Bu uzunluğu aşan anahtar üretildiğinde sütun arka planda yeniden numaralandırılır. */
+    static final int REBALANCE_LENGTH = 16;
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<Column> pending = ConcurrentHashMap.newKeySet();
+
+    public BoardRankRebalancer(TaskRepository taskRepository, TransactionTemplate transactionTemplate) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public void request(Long userId, TaskStatus status) {
+        pending.add(new Column(userId, status));
+    }
+
+    /** Sütunun son görevinden sonraki anahtar; anahtar uzadıysa sütun yeniden numaralandırılmak üzere işaretlenir. */
+    public String endOfColumn(Long userId, TaskStatus status) {
+        String rank = RankKey.after(taskRepository.findLastRank(userId, status).orElse(null));
+        if (rank.length() > REBALANCE_LENGTH) {
+            request(userId, status);
+        }
+        return rank;
+    }
+
+    @Scheduled(fixedDelay = 10_000)
+    public void rebalancePending() {
+        for (Column column : pending) {
+            pending.remove(column);
+            try {
+                transactionTemplate.executeWithoutResult(tx -> rebalance(column.userId(), column.status()));
+            } catch (RuntimeException e) {
+                log.warn("Kullanıcı {} için {} sütunu yeniden numaralandırılamadı", column.userId(), column.status(), e);
+            }
+        }
+    }
+
+    /**
+     * Sütunu mevcut sırasını koruyarak yeniden numaralandırır. Etkin bir transaction içinde
+     * çağrılmalıdır; sütundaki satırlar commit'e kadar kilitli kalır, böylece aynı sütundaki
+     * taşımalar eski anahtarlarla yeni anahtar üretemez.
+     */
+    public void rebalance(Long userId, TaskStatus status) {
+        List<Task> tasks = taskRepository.findColumnForUpdate(userId, status);
+        List<String> keys = RankKey.evenlySpaced(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (!keys.get(i).equals(task.getRank())) {
+                task.setRank(keys.get(i));
+            }
+        }
+    }
+
+    private record Column(Long userId, TaskStatus status) {
+    }
+}
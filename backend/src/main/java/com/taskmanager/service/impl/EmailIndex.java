@@ -0,0 +1,114 @@
+package com.taskmanager.service.impl;
+
+import com.taskmanager.changebus.TaskChange;
+import com.taskmanager.changebus.TaskChangeListener;
+import com.taskmanager.util.BloomFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Kayıtlı e-posta adreslerinin bellekteki Bloom filtresi. "Bu e-posta alınmış mı?"
+ * sorusunun büyük çoğunluğu veritabanına gitmeden yanıtlanır; yalnızca filtre
+ * olası bir eşleşme bildirdiğinde veritabanı kontrol edilir.
+ * Silinen veya değiştirilen adresler filtrede kalır (yalnızca yanlış pozitif üretir),
+ * bu yüzden filtre periyodik olarak yeniden oluşturulur.
+ *
+ * <p>Başka bir instance'ta kaydolan ya da e-postasını değiştiren kullanıcı değişiklik bus'ı üzerinden
+ * kullanıcı düzeyinde bir değişiklik ({@link TaskChange#allTasksOf}) olarak duyurulur; filtre o kullanıcının
+ * güncel adresini veritabanından okuyup ekler. Bildirimler kaçırıldıysa filtre baştan oluşturulur.
+ */
+@Component
+public class EmailIndex implements TaskChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailIndex.class);
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long MIN_CAPACITY = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Filtre henüz yüklenmediyse null; bu durumda her sorgu veritabanına gider. */
+    private volatile BloomFilter filter;
+    /** Yeniden oluşturulmakta olan filtre; bu sırada eklenen adresler ona da yazılır. */
+    private volatile BloomFilter rebuilding;
+
+    public EmailIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** false dönerse adres kesinlikle kayıtlı değildir. */
+    public boolean mightExist(String normalizedEmail) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(normalizedEmail);
+    }
+
+    public void add(String normalizedEmail) {
+        // Önce yeniden oluşturulan okunur: null ise ya başlamamıştır ya da filter zaten yenisidir
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(normalizedEmail);
+        }
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(normalizedEmail);
+        }
+    }
+
+    @Override
+    public void onTaskChanges(List<TaskChange> changes) {
+        // Yalnızca kullanıcı düzeyindeki değişiklikler (kayıt, e-posta değişikliği, toplu görev işlemleri)
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (TaskChange change : changes) {
+            if (change.taskId() == null) {
+                userIds.add(change.userId());
+            }
+        }
+        for (Long userId : userIds) {
+            jdbcTemplate.queryForList("SELECT email FROM users WHERE id = ?", String.class, userId)
+                    .forEach(email -> add(normalize(email)));
+        }
+    }
+
+    @Override
+    public void onResync() {
+        rebuild();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${email-index.rebuild-interval:21600000}",
+            fixedDelayString = "${email-index.rebuild-interval:21600000}")
+    public synchronized void rebuild() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        // Yeni kayıtlar için pay bırakılır, filtre bir sonraki yeniden oluşturmaya kadar dolmaz
+        BloomFilter next = new BloomFilter(Math.max(MIN_CAPACITY, (count == null ? 0 : count) * 2), FALSE_POSITIVE_RATE);
+        // Sorgu başladıktan sonra commit edilen adresler sorguda görünmeyebilir; add() onları da buraya yazar
+        rebuilding = next;
+        try {
+            jdbcTemplate.query("SELECT email FROM users", rs -> {
+                next.put(normalize(rs.getString(1)));
+            });
+            filter = next;
+        } finally {
+            rebuilding = null;
+        }
+        log.info("E-posta filtresi {} kayıt ile oluşturuldu", count);
+    }
+}
@@ -0,0 +1,434 @@
+package com.taskmanager.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.changebus.TaskChange;
+import com.taskmanager.changebus.TaskChangeBus;
+import com.taskmanager.dto.DtoTaskIU;
+import com.taskmanager.dto.DtoTaskImport;
+import com.taskmanager.exception.BaseException;
+import com.taskmanager.exception.MessageType;
+import com.taskmanager.importer.CsvTaskRowReader;
+import com.taskmanager.importer.NdjsonTaskRowReader;
+import com.taskmanager.importer.TaskRowException;
+import com.taskmanager.importer.TaskRowReader;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.UserRepository;
+import com.taskmanager.service.ITaskImportService;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Görevleri CSV veya NDJSON gövdesinden akış halinde içe aktarır.
+ * Gövde diske ya da belleğe alınmadan satır satır okunur, satırlar sabit boyutlu gruplar halinde
+ * JDBC batch ile yazılır; bellek kullanımı dosya boyutundan bağımsızdır. İşler sınırlı sayıda
+ * içe aktarma thread'inde çalışır, istemci ilerlemeyi yükleme sürerken sorgulayabilir.
+ */
+@Service
+public class TaskImportServiceImpl implements ITaskImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImportServiceImpl.class);
+
+    static final int BATCH_SIZE = 1000;
+    private static final int USER_CACHE_SIZE = 10_000;
+    private static final int MAX_TRACKED_IMPORTS = 100;
+    private static final Pattern IMPORT_ID = Pattern.compile("[A-Za-z0-9-]{1,64}");
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tasks (title, description, status, due_date, user_id) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final UpcomingTaskIndex upcomingTaskIndex;
+    private final TaskChangeBus changeBus;
+    private final BoardRankRebalancer boardRankRebalancer;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public TaskImportServiceImpl(JdbcTemplate jdbcTemplate, UserRepository userRepository,
+                                 Validator validator, ObjectMapper objectMapper,
+                                 UpcomingTaskIndex upcomingTaskIndex, TaskChangeBus changeBus,
+                                 BoardRankRebalancer boardRankRebalancer, TransactionTemplate transactionTemplate,
+                                 @Value("${taskmanager.import.max-concurrent:2}") int maxConcurrent) {
+        this.transactionTemplate = transactionTemplate;
+        // Kuyruk yok: tüm thread'ler doluysa yeni içe aktarma reddedilir, bekleyen yüklemeler bağlantı tutmaz
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent, 0, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "task-import-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.upcomingTaskIndex = upcomingTaskIndex;
+        this.changeBus = changeBus;
+        this.boardRankRebalancer = boardRankRebalancer;
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public CompletableFuture<DtoTaskImport> importTasks(String importId, InputStream body, String contentType,
+                                                        String format, String fileName) {
+        if (importId == null || !IMPORT_ID.matcher(importId).matches()) {
+            throw new BaseException(MessageType.INVALID_INPUT, "Geçersiz içe aktarma kimliği: " + importId);
+        }
+        String resolvedFormat = resolveFormat(format, contentType, fileName);
+        ImportJob job = new ImportJob(importId, fileName);
+        register(job);
+
+        CompletableFuture<DtoTaskImport> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> run(job, body, resolvedFormat, result));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id, job);
+            throw new BaseException(MessageType.TOO_MANY_REQUESTS, "Eşzamanlı içe aktarma sınırına ulaşıldı");
+        }
+        return result;
+    }
+
+    private void run(ImportJob job, InputStream body, String format, CompletableFuture<DtoTaskImport> result) {
+        try (TaskRowReader reader = openReader(body, format)) {
+            runImport(job, reader);
+            job.status = "COMPLETED";
+        } catch (TaskRowException e) {
+            // Başlık satırı gibi dosya düzeyindeki hatalar
+            job.recordError(0, e.getMessage());
+            job.status = "FAILED";
+        } catch (IOException e) {
+            // Yükleme yarıda kesildi ya da zaman aşımına uğradı; o ana kadar yazılan satırlar kalır
+            log.error("İçe aktarma {} okunamadı", job.id, e);
+            job.status = "FAILED";
+            job.finish();
+            result.completeExceptionally(new BaseException(MessageType.FILE_READ_ERROR, e.getMessage()));
+            return;
+        } catch (RuntimeException e) {
+            log.error("İçe aktarma {} başarısız oldu", job.id, e);
+            job.status = "FAILED";
+            job.finish();
+            result.completeExceptionally(e);
+            return;
+        }
+        job.finish();
+        result.complete(job.toDto());
+    }
+
+    private void runImport(ImportJob job, TaskRowReader reader) throws IOException {
+        Map<Long, Boolean> userExists = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > USER_CACHE_SIZE;
+            }
+        };
+        List<PendingRow> batch = new ArrayList<>(BATCH_SIZE);
+
+        while (true) {
+            DtoTaskIU dto;
+            try {
+                dto = reader.next();
+            } catch (TaskRowException e) {
+                job.processed.incrementAndGet();
+                job.recordError(reader.getLineNumber(), e.getMessage());
+                continue;
+            }
+            if (dto == null) {
+                break;
+            }
+            job.processed.incrementAndGet();
+
+            String error = validate(dto);
+            if (error == null && !userExists.computeIfAbsent(dto.getUserId(), userRepository::existsById)) {
+                error = "Kullanıcı bulunamadı: " + dto.getUserId();
+            }
+            if (error != null) {
+                job.recordError(reader.getLineNumber(), error);
+                continue;
+            }
+
+            batch.add(new PendingRow(reader.getLineNumber(), dto));
+            if (batch.size() == BATCH_SIZE) {
+                flush(job, batch);
+            }
+        }
+        flush(job, batch);
+    }
+
+    private String validate(DtoTaskIU dto) {
+        Set<ConstraintViolation<DtoTaskIU>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<DtoTaskIU> violation = violations.iterator().next();
+            return violation.getPropertyPath() + ": " + violation.getMessage();
+        }
+        return null;
+    }
+
+    private void flush(ImportJob job, List<PendingRow> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<PendingRow> written = batch;
+        try {
+            // Batch tek transaction'da yazılır; başarısız olursa hiçbir satırı kalmaz
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL,
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            bind(ps, batch.get(i).dto);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return batch.size();
+                        }
+                    }));
+        } catch (DataAccessException e) {
+            // Satırlar tek tek denenir, yalnızca yazılamayanlar hata dosyasına düşer
+            log.warn("İçe aktarma {} için batch yazılamadı, satırlar tek tek deneniyor: {}",
+                    job.id, e.getMostSpecificCause().getMessage());
+            written = new ArrayList<>(batch.size());
+            for (PendingRow row : batch) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, row.dto));
+                    written.add(row);
+                } catch (DataAccessException rowError) {
+                    job.recordError(row.lineNumber,
+                            MessageType.DATABASE_ERROR.getMessage() + ": " + firstLine(rowError.getMostSpecificCause().getMessage()));
+                }
+            }
+        }
+
+        job.imported.addAndGet(written.size());
+        // Toplu eklenen görevler tek tek izlenmez, etkilenen kullanıcıların listesi yeniden yüklenir
+        written.stream().map(row -> row.dto.getUserId()).distinct().forEach(userId -> {
+            upcomingTaskIndex.invalidate(userId);
+            changeBus.publish(TaskChange.allTasksOf(userId));
+        });
+        // Eklenen görevlerin Kanban sırası arka planda atanır, o zamana kadar sütunun sonunda görünürler
+        written.stream().map(row -> row.dto)
+                .forEach(dto -> boardRankRebalancer.request(dto.getUserId(), dto.getStatus()));
+        batch.clear();
+    }
+
+    private static void bind(PreparedStatement ps, DtoTaskIU dto) throws SQLException {
+        ps.setString(1, dto.getTitle());
+        ps.setString(2, dto.getDescription());
+        ps.setString(3, dto.getStatus().name());
+        if (dto.getDueDate() != null) {
+            ps.setDate(4, Date.valueOf(dto.getDueDate()));
+        } else {
+            ps.setNull(4, Types.DATE);
+        }
+        ps.setLong(5, dto.getUserId());
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "";
+        }
+        int end = message.indexOf('\n');
+        return end < 0 ? message : message.substring(0, end);
+    }
+
+    /** Sıra: format parametresi, Content-Type, dosya uzantısı. */
+    static String resolveFormat(String format, String contentType, String fileName) {
+        String value = format;
+        if ((value == null || value.isBlank()) && contentType != null) {
+            String type = contentType.toLowerCase(Locale.ROOT);
+            if (type.startsWith("text/csv")) {
+                value = "csv";
+            } else if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+                value = "ndjson";
+            }
+        }
+        if (value == null || value.isBlank()) {
+            value = fileName != null && fileName.contains(".") ? fileName.substring(fileName.lastIndexOf('.') + 1) : "";
+        }
+        value = value.toLowerCase(Locale.ROOT);
+        if (value.equals("jsonl")) {
+            value = "ndjson";
+        }
+        if (!value.equals("csv") && !value.equals("ndjson")) {
+            throw new BaseException(MessageType.UNSUPPORTED_FORMAT, value);
+        }
+        return value;
+    }
+
+    private TaskRowReader openReader(InputStream body, String format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        if (format.equals("csv")) {
+            return new CsvTaskRowReader(reader);
+        }
+        return new NdjsonTaskRowReader(reader, objectMapper);
+    }
+
+    private void register(ImportJob job) {
+        if (jobs.putIfAbsent(job.id, job) != null) {
+            throw new BaseException(MessageType.ALREADY_EXIST, "İçe aktarma zaten var: " + job.id);
+        }
+        if (jobs.size() > MAX_TRACKED_IMPORTS) {
+            jobs.values().stream()
+                    .filter(j -> j.finishedAt != null)
+                    .min(Comparator.comparing(j -> j.startedAt))
+                    .ifPresent(oldest -> {
+                        jobs.remove(oldest.id);
+                        oldest.deleteErrorFile();
+                    });
+        }
+    }
+
+    @Override
+    public DtoTaskImport getImport(String id) {
+        return findJob(id).toDto();
+    }
+
+    @Override
+    public List<DtoTaskImport> getImports() {
+        List<DtoTaskImport> dtoList = new ArrayList<>();
+        for (ImportJob job : jobs.values()) {
+            dtoList.add(job.toDto());
+        }
+        dtoList.sort(Comparator.comparing(DtoTaskImport::getStartedAt).reversed());
+        return dtoList;
+    }
+
+    @Override
+    public Resource getErrorFile(String id) {
+        ImportJob job = findJob(id);
+        if (job.errorFile == null) {
+            throw new BaseException(MessageType.NO_RECORD_EXIST, "Hata dosyası bulunamadı");
+        }
+        return new FileSystemResource(job.errorFile);
+    }
+
+    private ImportJob findJob(String id) {
+        ImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new BaseException(MessageType.NO_RECORD_EXIST, "İçe aktarma bulunamadı");
+        }
+        return job;
+    }
+
+    private record PendingRow(long lineNumber, DtoTaskIU dto) {
+    }
+
+    private static class ImportJob {
+        private final String id;
+        private final String fileName;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private volatile String status = "RUNNING";
+        private volatile LocalDateTime finishedAt;
+        private Path errorFile;
+        private BufferedWriter errorWriter;
+
+        ImportJob(String id, String fileName) {
+            this.id = id;
+            this.fileName = fileName;
+        }
+
+        void recordError(long lineNumber, String message) {
+            failed.incrementAndGet();
+            try {
+                if (errorWriter == null) {
+                    errorFile = Files.createTempFile("task-import-" + id, ".csv");
+                    errorWriter = Files.newBufferedWriter(errorFile, StandardCharsets.UTF_8);
+                    errorWriter.write("line,error\n");
+                }
+                errorWriter.write(lineNumber + ",\"" + message.replace("\"", "\"\"") + "\"\n");
+            } catch (IOException e) {
+                log.warn("İçe aktarma {} için hata dosyası yazılamadı", id, e);
+            }
+        }
+
+        void finish() {
+            finishedAt = LocalDateTime.now();
+            closeErrorWriter();
+        }
+
+        void closeErrorWriter() {
+            if (errorWriter != null) {
+                try {
+                    errorWriter.close();
+                } catch (IOException e) {
+                    log.warn("İçe aktarma {} için hata dosyası kapatılamadı", id, e);
+                }
+            }
+        }
+
+        void deleteErrorFile() {
+            if (errorFile != null) {
+                try {
+                    Files.deleteIfExists(errorFile);
+                } catch (IOException e) {
+                    log.warn("Hata dosyası silinemedi: {}", errorFile, e);
+                }
+            }
+        }
+
+        DtoTaskImport toDto() {
+            return DtoTaskImport.builder()
+                    .id(id)
+                    .fileName(fileName)
+                    .status(status)
+                    .processedRows(processed.get())
+                    .importedRows(imported.get())
+                    .failedRows(failed.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.taskmanager.service.impl;
+
+import com.taskmanager.changebus.TaskChange;
+import com.taskmanager.changebus.TaskChangeBus;
+import com.taskmanager.dto.DtoTask;
+import com.taskmanager.dto.DtoTaskIU;
+import com.taskmanager.dto.DtoTaskSeries;
+import com.taskmanager.dto.DtoTaskSeriesIU;
+import com.taskmanager.exception.BaseException;
+import com.taskmanager.exception.MessageType;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskSeries;
+import com.taskmanager.model.User;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskSeriesRepository;
+import com.taskmanager.repository.UserRepository;
+import com.taskmanager.service.ITaskSeriesService;
+import com.taskmanager.util.AfterCommit;
+import com.taskmanager.util.RecurrenceExpander;
+import org.springframework.beans.BeanUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class TaskSeriesServiceImpl implements ITaskSeriesService {
+
+    /** Takvim sorgusunda izin verilen en uzun aralık (gün). */
+    private static final long MAX_CALENDAR_DAYS = 366;
+
+    private final TaskSeriesRepository taskSeriesRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final UpcomingTaskIndex upcomingTaskIndex;
+    private final TaskChangeBus changeBus;
+    private final BoardRankRebalancer boardRankRebalancer;
+
+    public TaskSeriesServiceImpl(TaskSeriesRepository taskSeriesRepository, TaskRepository taskRepository,
+                                 UserRepository userRepository, UpcomingTaskIndex upcomingTaskIndex,
+                                 TaskChangeBus changeBus, BoardRankRebalancer boardRankRebalancer) {
+        this.boardRankRebalancer = boardRankRebalancer;
+        this.taskSeriesRepository = taskSeriesRepository;
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.upcomingTaskIndex = upcomingTaskIndex;
+        this.changeBus = changeBus;
+    }
+
+    @Override
+    @Transactional
+    public DtoTaskSeries saveSeries(DtoTaskSeriesIU dtoTaskSeriesIU) {
+        TaskSeries series = new TaskSeries();
+        User user = userRepository.findById(dtoTaskSeriesIU.getUserId())
+                .orElseThrow(() -> new BaseException(MessageType.NO_RECORD_EXIST, "Kullanıcı bulunamadı"));
+        series.setUser(user);
+        applyRule(series, dtoTaskSeriesIU);
+
+        return convertToDto(taskSeriesRepository.save(series));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DtoTaskSeries getSeriesById(Long id) {
+        return convertToDto(findSeries(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DtoTaskSeries> getSeriesByUserId(Long userId) {
+        List<DtoTaskSeries> dtoList = new ArrayList<>();
+        for (TaskSeries series : taskSeriesRepository.findByUserId(userId)) {
+            dtoList.add(convertToDto(series));
+        }
+        return dtoList;
+    }
+
+    @Override
+    @Transactional
+    public DtoTaskSeries updateSeries(Long id, DtoTaskSeriesIU dtoTaskSeriesIU) {
+        TaskSeries series = findSeries(id);
+        Long previousUserId = series.getUser().getId();
+        if (!previousUserId.equals(dtoTaskSeriesIU.getUserId())) {
+            User user = userRepository.findById(dtoTaskSeriesIU.getUserId())
+                    .orElseThrow(() -> new BaseException(MessageType.NO_RECORD_EXIST, "Kullanıcı bulunamadı"));
+            series.setUser(user);
+        }
+        applyRule(series, dtoTaskSeriesIU);
+        revalidateOccurrences(series, previousUserId);
+
+        return convertToDto(taskSeriesRepository.save(series));
+    }
+
+    /**
+     * Kural değiştikten sonra saklanmış tekrarlardan artık seride olmayanları seriden ayırır; bunlar
+     * kullanıcının düzenlediği veya tamamladığı görevlerdir ve sıradan görev olarak kalırlar.
+     * Serideki tekrarlar serinin kullanıcısına taşınır.
+     */
+    private void revalidateOccurrences(TaskSeries series, Long previousUserId) {
+        Long userId = series.getUser().getId();
+        boolean changed = false;
+        for (Task task : taskRepository.findBySeriesId(series.getId())) {
+            if (!isOccurrence(series, task.getOccurrenceDate())) {
+                task.setSeries(null);
+                task.setOccurrenceDate(null);
+                changed = true;
+            } else if (!task.getUser().getId().equals(userId)) {
+                task.setUser(series.getUser());
+                task.setRank(boardRankRebalancer.endOfColumn(userId, task.getStatus()));
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            upcomingTaskIndex.invalidate(previousUserId);
+            upcomingTaskIndex.invalidate(userId);
+        });
+        if (!previousUserId.equals(userId)) {
+            // Entity listener taşınan görevleri yalnızca yeni sahibe bildirir
+            changeBus.publish(TaskChange.allTasksOf(previousUserId));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteSeries(Long id) {
+        TaskSeries series = findSeries(id);
+        taskRepository.deleteBySeriesId(id);
+        taskSeriesRepository.delete(series);
+        Long userId = series.getUser().getId();
+        AfterCommit.run(() -> upcomingTaskIndex.invalidate(userId));
+        changeBus.publish(TaskChange.allTasksOf(userId));
+    }
+
+    @Override
+    @Transactional
+    public DtoTask saveOccurrence(Long seriesId, LocalDate occurrenceDate, DtoTaskIU dtoTaskIU) {
+        TaskSeries series = findSeries(seriesId);
+        checkOccurrence(series, occurrenceDate);
+        if (!series.getUser().getId().equals(dtoTaskIU.getUserId())) {
+            throw new BaseException(MessageType.INVALID_INPUT, "Tekrar yalnızca serinin kullanıcısına ait olabilir");
+        }
+
+        // Tekrar ilk kez değiştiriliyorsa satır olarak saklanır
+        Task task = taskRepository.findBySeriesIdAndOccurrenceDate(seriesId, occurrenceDate)
+                .orElseGet(Task::new);
+        // Yeni saklanan veya başka sütuna geçen tekrar sütunun sonuna eklenir
+        if (task.getRank() == null || task.getStatus() != dtoTaskIU.getStatus()) {
+            task.setRank(boardRankRebalancer.endOfColumn(series.getUser().getId(), dtoTaskIU.getStatus()));
+        }
+        task.setTitle(dtoTaskIU.getTitle());
+        task.setDescription(dtoTaskIU.getDescription());
+        task.setStatus(dtoTaskIU.getStatus());
+        task.setDueDate(dtoTaskIU.getDueDate() != null ? dtoTaskIU.getDueDate() : occurrenceDate);
+        task.setUser(series.getUser());
+        task.setSeries(series);
+        task.setOccurrenceDate(occurrenceDate);
+
+        DtoTask dto = convertToDto(taskRepository.save(task));
+        // Geri alınan bir yazma listeye girmesin
+        AfterCommit.run(() -> upcomingTaskIndex.put(dto));
+        return dto;
+    }
+
+    @Override
+    @Transactional
+    public void deleteOccurrence(Long seriesId, LocalDate occurrenceDate) {
+        TaskSeries series = findSeries(seriesId);
+        checkOccurrence(series, occurrenceDate);
+
+        series.getExcludedDates().add(occurrenceDate);
+        taskRepository.findBySeriesIdAndOccurrenceDate(seriesId, occurrenceDate)
+                .ifPresent(task -> {
+                    taskRepository.delete(task);
+                    Long userId = series.getUser().getId();
+                    AfterCommit.run(() -> upcomingTaskIndex.remove(userId, task.getId()));
+                });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DtoTask> getCalendar(Long userId, LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from) || ChronoUnit.DAYS.between(from, to) > MAX_CALENDAR_DAYS) {
+            throw new BaseException(MessageType.INVALID_DATE, "Tarih aralığı en fazla " + MAX_CALENDAR_DAYS + " gün olabilir");
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new BaseException(MessageType.NO_RECORD_EXIST, "Kullanıcı bulunamadı");
+        }
+
+        // Tekil görevler ve saklanmış tekrarlar
+        List<DtoTask> dtoList = new ArrayList<>();
+        for (Task task : taskRepository.findByUserIdAndDueDateBetween(userId, from, to)) {
+            dtoList.add(convertToDto(task));
+        }
+
+        // Saklanmamış tekrarlar yalnızca bu aralık için hesaplanır
+        List<TaskSeries> seriesList = taskSeriesRepository.findActiveInRange(userId, from, to);
+        if (!seriesList.isEmpty()) {
+            Set<Long> seriesIds = new HashSet<>();
+            for (TaskSeries series : seriesList) {
+                seriesIds.add(series.getId());
+            }
+            Set<String> materialized = new HashSet<>();
+            for (Object[] row : taskRepository.findMaterializedOccurrences(seriesIds, from, to)) {
+                materialized.add(row[0] + "|" + row[1]);
+            }
+
+            for (TaskSeries series : seriesList) {
+                List<LocalDate> dates = RecurrenceExpander.expand(series.getFrequency(), series.getRepeatInterval(),
+                        series.getStartDate(), series.getUntilDate(), series.getOccurrenceCount(),
+                        series.getExcludedDates(), from, to);
+                for (LocalDate date : dates) {
+                    if (!materialized.contains(series.getId() + "|" + date)) {
+                        dtoList.add(virtualOccurrence(series, userId, date));
+                    }
+                }
+            }
+        }
+
+        dtoList.sort(Comparator.comparing(DtoTask::getDueDate));
+        return dtoList;
+    }
+
+    private void applyRule(TaskSeries series, DtoTaskSeriesIU dto) {
+        if (dto.getUntilDate() != null && dto.getUntilDate().isBefore(dto.getStartDate())) {
+            throw new BaseException(MessageType.INVALID_DATE, "Bitiş tarihi başlangıçtan önce olamaz");
+        }
+        series.setTitle(dto.getTitle());
+        series.setDescription(dto.getDescription());
+        series.setStatus(dto.getStatus());
+        series.setFrequency(dto.getFrequency());
+        series.setRepeatInterval(dto.getRepeatInterval());
+        series.setStartDate(dto.getStartDate());
+        series.setOccurrenceCount(dto.getOccurrenceCount());
+
+        // Tekrar sayısı verildiyse son tekrarın tarihi saklanır; takvim sorgusu seriyi tarihe göre eleyebilir
+        LocalDate until = dto.getUntilDate();
+        if (dto.getOccurrenceCount() != null) {
+            LocalDate last = RecurrenceExpander.occurrence(dto.getFrequency(), dto.getRepeatInterval(),
+                    dto.getStartDate(), dto.getOccurrenceCount() - 1L);
+            if (until == null || last.isBefore(until)) {
+                until = last;
+            }
+        }
+        series.setUntilDate(until);
+
+        // null: istisnalar değişmez; boş küme: tümü kaldırılır
+        if (dto.getExcludedDates() != null) {
+            series.getExcludedDates().clear();
+            series.getExcludedDates().addAll(dto.getExcludedDates());
+        }
+    }
+
+    private void checkOccurrence(TaskSeries series, LocalDate date) {
+        if (!isOccurrence(series, date)) {
+            throw new BaseException(MessageType.NO_RECORD_EXIST, "Seride bu tarihte tekrar yok");
+        }
+    }
+
+    private static boolean isOccurrence(TaskSeries series, LocalDate date) {
+        long index = RecurrenceExpander.indexOf(series.getFrequency(), series.getRepeatInterval(), series.getStartDate(), date);
+        boolean afterEnd = series.getUntilDate() != null && date.isAfter(series.getUntilDate());
+        return index >= 0 && !afterEnd && !series.getExcludedDates().contains(date);
+    }
+
+    private TaskSeries findSeries(Long id) {
+        return taskSeriesRepository.findById(id)
+                .orElseThrow(() -> new BaseException(MessageType.NO_RECORD_EXIST, "Seri bulunamadı"));
+    }
+
+    private DtoTask virtualOccurrence(TaskSeries series, Long userId, LocalDate date) {
+        return DtoTask.builder()
+                .title(series.getTitle())
+                .description(series.getDescription())
+                .status(series.getStatus())
+                .dueDate(date)
+                .userId(userId)
+                .seriesId(series.getId())
+                .occurrenceDate(date)
+                .build();
+    }
+
+    private DtoTask convertToDto(Task task) {
+        DtoTask dto = new DtoTask();
+        BeanUtils.copyProperties(task, dto);
+        dto.setUserId(task.getUser().getId());
+        if (task.getSeries() != null) {
+            dto.setSeriesId(task.getSeries().getId());
+        }
+        return dto;
+    }
+
+    private DtoTaskSeries convertToDto(TaskSeries series) {
+        DtoTaskSeries dto = new DtoTaskSeries();
+        BeanUtils.copyProperties(series, dto);
+        dto.setExcludedDates(new HashSet<>(series.getExcludedDates()));
+        dto.setUserId(series.getUser().getId());
+        return dto;
+    }
+}
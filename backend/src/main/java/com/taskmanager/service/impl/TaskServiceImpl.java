@@ -1,17 +1,26 @@
 package com.taskmanager.service.impl;
 
+import com.taskmanager.changebus.TaskChange;
+import com.taskmanager.changebus.TaskChangeBus;
 import com.taskmanager.dto.DtoTask;
 import com.taskmanager.dto.DtoTaskIU;
+import com.taskmanager.dto.DtoTaskMove;
 import com.taskmanager.exception.BaseException;
 import com.taskmanager.exception.MessageType;
 import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskStatus;
 import com.taskmanager.model.User;
 import com.taskmanager.repository.TaskRepository;
 import com.taskmanager.repository.UserRepository;
 import com.taskmanager.service.ITaskService;
+import com.taskmanager.util.AfterCommit;
+import com.taskmanager.util.RankKey;
 import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -19,12 +28,24 @@ import java.util.Optional;
 @Service
 public class TaskServiceImpl implements ITaskService {
 
+    private static final int MAX_UPCOMING_LIMIT = 100;
+    /** Bundan uzun sıra anahtarı üretilirse sütun beklemeden yeniden numaralandırılır. */
+    private static final int MAX_RANK_LENGTH = 128;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final UpcomingTaskIndex upcomingTaskIndex;
+    private final TaskChangeBus changeBus;
+    private final BoardRankRebalancer boardRankRebalancer;
 
-    public TaskServiceImpl(TaskRepository taskRepository, UserRepository userRepository) {
+    public TaskServiceImpl(TaskRepository taskRepository, UserRepository userRepository,
+                           UpcomingTaskIndex upcomingTaskIndex, TaskChangeBus changeBus,
+                           BoardRankRebalancer boardRankRebalancer) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
+        this.upcomingTaskIndex = upcomingTaskIndex;
+        this.changeBus = changeBus;
+        this.boardRankRebalancer = boardRankRebalancer;
     }
 
 
@@ -36,9 +57,12 @@ public class TaskServiceImpl implements ITaskService {
         User user = userRepository.findById(dtoTaskIU.getUserId())
                 .orElseThrow(() -> new BaseException(MessageType.NO_RECORD_EXIST, "Kullanıcı bulunamadı"));
         task.setUser(user);
+        task.setRank(boardRankRebalancer.endOfColumn(user.getId(), task.getStatus()));
 
         Task savedTask = taskRepository.save(task);
-        return convertToDto(savedTask);
+        DtoTask dto = convertToDto(savedTask);
+        upcomingTaskIndex.put(dto);
+        return dto;
     }
 
     @Override
@@ -62,28 +86,86 @@ public class TaskServiceImpl implements ITaskService {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new BaseException(MessageType.NO_RECORD_EXIST, "Görev bulunamadı"));
 
+        TaskStatus previousStatus = task.getStatus();
+
         // Güncelle
         task.setTitle(dtoTaskIU.getTitle());
         task.setDescription(dtoTaskIU.getDescription());
         task.setStatus(dtoTaskIU.getStatus());
         task.setDueDate(dtoTaskIU.getDueDate());
 
-        if (!task.getUser().getId().equals(dtoTaskIU.getUserId())) {
+        Long previousUserId = task.getUser().getId();
+        if (!previousUserId.equals(dtoTaskIU.getUserId())) {
             User user = userRepository.findById(dtoTaskIU.getUserId())
                     .orElseThrow(() -> new BaseException(MessageType.NO_RECORD_EXIST, "Kullanıcı bulunamadı"));
             task.setUser(user);
         }
+        // Başka sütuna geçen görev o sütunun sonuna eklenir
+        if (previousStatus != task.getStatus() || !previousUserId.equals(task.getUser().getId())) {
+            task.setRank(boardRankRebalancer.endOfColumn(task.getUser().getId(), task.getStatus()));
+        }
 
         Task updatedTask = taskRepository.save(task);
-        return convertToDto(updatedTask);
+        DtoTask dto = convertToDto(updatedTask);
+        if (!previousUserId.equals(dto.getUserId())) {
+            upcomingTaskIndex.remove(previousUserId, id);
+            // Entity listener yalnızca yeni sahibi bildirir
+            changeBus.publish(TaskChange.deleted(previousUserId, id, updatedTask.getVersion()));
+        }
+        upcomingTaskIndex.put(dto);
+        return dto;
     }
 
     @Override
     public void deleteTask(Long id) {
-        if (!taskRepository.existsById(id)) {
-            throw new BaseException(MessageType.NO_RECORD_EXIST, "Görev bulunamadı");
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new BaseException(MessageType.NO_RECORD_EXIST, "Görev bulunamadı"));
+        Long userId = task.getUser().getId();
+        taskRepository.delete(task);
+        upcomingTaskIndex.remove(userId, id);
+    }
+
+    @Override
+    @Transactional
+    public DtoTask moveTask(Long id, DtoTaskMove dtoTaskMove) {
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new BaseException(MessageType.NO_RECORD_EXIST, "Görev bulunamadı"));
+        if (id.equals(dtoTaskMove.getAfterTaskId())) {
+            throw new BaseException(MessageType.INVALID_INPUT, "Görev kendi altına taşınamaz");
+        }
+        Long userId = task.getUser().getId();
+        TaskStatus status = dtoTaskMove.getStatus();
+
+        // Yalnızca taşınan satır değişir; komşuların arası boşsa sütun önce yeniden numaralandırılır
+        String rank = rankAfter(userId, status, id, dtoTaskMove.getAfterTaskId());
+        if (rank == null || rank.length() > MAX_RANK_LENGTH) {
+            boardRankRebalancer.rebalance(userId, status);
+            rank = rankAfter(userId, status, id, dtoTaskMove.getAfterTaskId());
+            if (rank == null) {
+                throw new BaseException(MessageType.CONCURRENT_UPDATE, "Görev sırası belirlenemedi");
+            }
+        } else if (rank.length() > BoardRankRebalancer.REBALANCE_LENGTH) {
+            boardRankRebalancer.request(userId, status);
         }
-        taskRepository.deleteById(id);
+
+        task.setStatus(status);
+        task.setRank(rank);
+        DtoTask dto = convertToDto(taskRepository.save(task));
+        // Commit iyimser kilit nedeniyle başarısız olabilir; bellekteki liste yalnızca kalıcı taşımayı görmeli
+        AfterCommit.run(() -> upcomingTaskIndex.put(dto));
+        return dto;
+    }
+
+    @Override
+    public List<DtoTask> getBoardColumn(Long userId, TaskStatus status) {
+        if (!userRepository.existsById(userId)) {
+            throw new BaseException(MessageType.NO_RECORD_EXIST, "Kullanıcı bulunamadı");
+        }
+        List<DtoTask> dtoList = new ArrayList<>();
+        for (Task task : taskRepository.findColumn(userId, status)) {
+            dtoList.add(convertToDto(task));
+        }
+        return dtoList;
     }
 
     @Override
@@ -104,10 +186,85 @@ public class TaskServiceImpl implements ITaskService {
         return dtoList;
     }
 
+    @Override
+    public List<DtoTask> getUpcomingTasks(Long userId, int limit, TaskStatus status) {
+        if (limit < 1 || limit > MAX_UPCOMING_LIMIT) {
+            throw new BaseException(MessageType.INVALID_INPUT, "limit 1 ile " + MAX_UPCOMING_LIMIT + " arasında olmalıdır");
+        }
+        LocalDate today = LocalDate.now();
+        if (status != TaskStatus.DONE) {
+            List<DtoTask> cached = upcomingTaskIndex.get(userId, limit, today, status);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        if (!userRepository.existsById(userId)) {
+            throw new BaseException(MessageType.NO_RECORD_EXIST, "Kullanıcı bulunamadı");
+        }
+
+        // Duruma göre süzülmüş sonuç belleğe alınmaz; tamamlanmış görevler bellekte hiç tutulmaz
+        if (status != null) {
+            List<DtoTask> dtoList = new ArrayList<>();
+            for (Task task : taskRepository.findUpcomingByStatus(userId, status, today, PageRequest.of(0, limit))) {
+                dtoList.add(convertToDto(task));
+            }
+            return dtoList;
+        }
+
+        // Soğuk başlangıç: indeks üzerinden en yakın görevler okunur ve bellekteki liste doldurulur
+        int capacity = Math.max(limit, UpcomingTaskIndex.CAPACITY);
+        long version = upcomingTaskIndex.version(userId);
+        List<DtoTask> dtoList = new ArrayList<>();
+        for (Task task : taskRepository.findUpcoming(userId, today, PageRequest.of(0, capacity))) {
+            dtoList.add(convertToDto(task));
+        }
+        if (capacity == UpcomingTaskIndex.CAPACITY) {
+            upcomingTaskIndex.load(userId, dtoList, capacity, version);
+        }
+        return dtoList.size() > limit ? new ArrayList<>(dtoList.subList(0, limit)) : dtoList;
+    }
+
+    /**
+     * {@code afterId} görevi ile sütunda onu izleyen görev arasına düşen sıra anahtarı;
+     * {@code afterId} null ise sütunun başı. Komşular kilitlenir, böylece aynı anda yapılan
+     * yeniden numaralandırma arada eski anahtarları değiştiremez.
+     *
+     * @return komşuların sırası eşit veya atanmamışsa null
+     */
+    private String rankAfter(Long userId, TaskStatus status, Long movedId, Long afterId) {
+        String lower = null;
+        List<Task> next;
+        if (afterId != null) {
+            Task after = taskRepository.findByIdForUpdate(afterId)
+                    .orElseThrow(() -> new BaseException(MessageType.NO_RECORD_EXIST, "Önceki görev bulunamadı"));
+            if (!after.getUser().getId().equals(userId) || after.getStatus() != status) {
+                throw new BaseException(MessageType.INVALID_INPUT, "Önceki görev aynı sütunda değil");
+            }
+            if (after.getRank() == null) {
+                return null;
+            }
+            lower = after.getRank();
+            next = taskRepository.findNextInColumn(userId, status, lower, afterId, movedId, PageRequest.of(0, 1));
+        } else {
+            next = taskRepository.findFirstInColumn(userId, status, movedId, PageRequest.of(0, 1));
+        }
+
+        String upper = next.isEmpty() ? null : next.get(0).getRank();
+        if (!next.isEmpty() && (upper == null || upper.equals(lower))) {
+            return null;
+        }
+        return RankKey.between(lower, upper);
+    }
+
+    // Kilitsiz okunur: aynı anda eklenen iki görev aynı anahtarı alabilir, sıraları id ile belirlenir
     private DtoTask convertToDto(Task task) {
         DtoTask dto = new DtoTask();
         BeanUtils.copyProperties(task, dto);
         dto.setUserId(task.getUser().getId());
+        if (task.getSeries() != null) {
+            dto.setSeriesId(task.getSeries().getId());
+        }
         return dto;
     }
 }
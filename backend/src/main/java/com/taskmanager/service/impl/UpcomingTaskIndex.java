@@ -0,0 +1,227 @@
+package com.taskmanager.service.impl;
+
+import com.taskmanager.changebus.TaskChange;
+import com.taskmanager.changebus.TaskChangeListener;
+import com.taskmanager.dto.DtoTask;
+import com.taskmanager.model.TaskStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Kullanıcı başına, bitiş tarihine göre sıralı yaklaşan (DONE olmayan) görevler.
+ * Her kullanıcı için en yakın {@link #CAPACITY} görev bir skip list'te tutulur; ilk k görev
+ * O(k) sürede okunur. Kullanıcı ilk kez sorgulandığında liste veritabanından
+ * ({@code ORDER BY due_date LIMIT}) doldurulur, sonrasında {@link TaskServiceImpl} yazmaları ile güncellenir.
+ *
+ * <p>Listeye sığmayan görevler bellekte tutulmaz; {@code watermark} bellekteki listenin
+ * hangi anahtara kadar eksiksiz olduğunu gösterir. İstenen k görev bu sınırın içinde
+ * karşılanamazsa liste veritabanından yeniden yüklenir.
+ *
+ * <p>Diğer instance'lardaki yazmalar {@link com.taskmanager.changebus.TaskChangeBus} ile gelir;
+ * görev içeriği taşınmadığı için ilgili kullanıcının listesi bırakılır ve ilk okumada yeniden yüklenir.
+ */
+@Component
+public class UpcomingTaskIndex implements TaskChangeListener {
+
+    static final int CAPACITY = 50;
+    private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(30);
+
+    private static final int VERSION_STRIPES = 1024;
+
+    private final Map<Long, UserQueue> queues = new ConcurrentHashMap<>();
+
+    /**
+     * Kullanıcı grubu başına yazma sayacı. Veritabanından okuma sırasında bir yazma olduysa
+     * okunan liste eskimiş olabilir ve belleğe alınmaz.
+     */
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    /**
+     * @return en yakın {@code limit} görev; kullanıcı bellekte yoksa veya liste yetersizse null
+     */
+    public List<DtoTask> get(Long userId, int limit, LocalDate today) {
+        return get(userId, limit, today, null);
+    }
+
+    /**
+     * @param status yalnızca bu durumdaki görevler (DONE olamaz, bellekte tutulmaz); null ise tümü
+     * @return en yakın {@code limit} görev; kullanıcı bellekte yoksa veya liste yetersizse null
+     */
+    public List<DtoTask> get(Long userId, int limit, LocalDate today, TaskStatus status) {
+        UserQueue queue = queues.get(userId);
+        if (queue == null) {
+            return null;
+        }
+        queue.lastAccess = System.nanoTime();
+        queue.pruneBefore(today);
+
+        List<DtoTask> result = new ArrayList<>(limit);
+        for (DtoTask task : queue.entries.values()) {
+            if (result.size() == limit) {
+                break;
+            }
+            if (status == null || task.getStatus() == status) {
+                result.add(task);
+            }
+        }
+        return result.size() == limit || queue.watermark == null ? result : null;
+    }
+
+    /** Veritabanından okumadan önce alınır ve {@link #load}'a verilir. */
+    public long version(Long userId) {
+        return versions.get(stripe(userId));
+    }
+
+    /**
+     * Veritabanından okunan ilk {@code capacity} görevle kullanıcının listesini yeniden oluşturur.
+     * Dönen satır sayısı capacity'den azsa kullanıcının tüm yaklaşan görevleri bellektedir.
+     * Okuma sırasında kullanıcıya yazma yapıldıysa liste belleğe alınmaz.
+     */
+    public void load(Long userId, List<DtoTask> tasks, int capacity, long versionBeforeRead) {
+        if (versions.get(stripe(userId)) != versionBeforeRead) {
+            return;
+        }
+        UserQueue queue = new UserQueue();
+        for (DtoTask task : tasks) {
+            queue.insert(task);
+        }
+        queue.watermark = tasks.size() < capacity || tasks.isEmpty() ? null : Key.of(tasks.get(tasks.size() - 1));
+        queues.put(userId, queue);
+        // Kontrol ile ekleme arasında gelen yazma kaçırılmış olabilir
+        if (versions.get(stripe(userId)) != versionBeforeRead) {
+            queues.remove(userId, queue);
+        }
+    }
+
+    /** Kaydedilen veya güncellenen görevi kullanıcının listesine yansıtır. */
+    public void put(DtoTask task) {
+        versions.incrementAndGet(stripe(task.getUserId()));
+        UserQueue queue = queues.get(task.getUserId());
+        if (queue == null) {
+            return;
+        }
+        synchronized (queue) {
+            queue.remove(task.getId());
+            if (task.getStatus() == TaskStatus.DONE || task.getDueDate() == null) {
+                return;
+            }
+            Key key = Key.of(task);
+            if (queue.watermark != null && key.compareTo(queue.watermark) > 0) {
+                // Bellekteki sınırın ötesinde, ilk k içinde olamaz
+                return;
+            }
+            queue.insert(task);
+            if (queue.entries.size() > CAPACITY) {
+                Key last = queue.entries.lastKey();
+                queue.entries.remove(last);
+                queue.ids.remove(last.taskId());
+                queue.watermark = queue.entries.lastKey();
+            }
+        }
+    }
+
+    public void remove(Long userId, Long taskId) {
+        versions.incrementAndGet(stripe(userId));
+        UserQueue queue = queues.get(userId);
+        if (queue != null) {
+            synchronized (queue) {
+                queue.remove(taskId);
+            }
+        }
+    }
+
+    /** Tek tek izlenemeyen toplu değişikliklerden sonra (içe aktarma, seri silme) kullanılır. */
+    public void invalidate(Long userId) {
+        versions.incrementAndGet(stripe(userId));
+        queues.remove(userId);
+    }
+
+    @Override
+    public void onTaskChanges(List<TaskChange> changes) {
+        Set<Long> invalidated = new HashSet<>();
+        for (TaskChange change : changes) {
+            if (invalidated.contains(change.userId())) {
+                continue;
+            }
+            if (change.deleted()) {
+                remove(change.userId(), change.taskId());
+            } else {
+                invalidate(change.userId());
+                invalidated.add(change.userId());
+            }
+        }
+    }
+
+    /** Kaçırılan bildirimler olabilir; bellekteki tüm listeler ve süren yüklemeler geçersizdir. */
+    @Override
+    public void onResync() {
+        for (int i = 0; i < VERSION_STRIPES; i++) {
+            versions.incrementAndGet(i);
+        }
+        queues.clear();
+    }
+
+    private static int stripe(Long userId) {
+        return (int) (userId ^ (userId >>> 32)) & (VERSION_STRIPES - 1);
+    }
+
+    @Scheduled(fixedDelay = 300_000)
+    public void evictIdle() {
+        long now = System.nanoTime();
+        queues.entrySet().removeIf(entry -> now - entry.getValue().lastAccess > IDLE_NANOS);
+    }
+
+    private record Key(LocalDate dueDate, long taskId) implements Comparable<Key> {
+
+        static Key of(DtoTask task) {
+            return new Key(task.getDueDate(), task.getId());
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int result = dueDate.compareTo(other.dueDate);
+            return result != 0 ? result : Long.compare(taskId, other.taskId);
+        }
+    }
+
+    /** Okumalar kilitsizdir; yazmalar kullanıcı başına senkronize edilir. */
+    private static class UserQueue {
+        private final ConcurrentSkipListMap<Key, DtoTask> entries = new ConcurrentSkipListMap<>();
+        private final Map<Long, Key> ids = new HashMap<>();
+        private volatile Key watermark;
+        private volatile long lastAccess = System.nanoTime();
+
+        void insert(DtoTask task) {
+            Key key = Key.of(task);
+            entries.put(key, task);
+            ids.put(task.getId(), key);
+        }
+
+        void remove(Long taskId) {
+            Key key = ids.remove(taskId);
+            if (key != null) {
+                entries.remove(key);
+            }
+        }
+
+        /** Tarihi geçen görevler listeden çıkar; sınırın altında kaldıkları için eksiksizlik bozulmaz. */
+        synchronized void pruneBefore(LocalDate today) {
+            while (!entries.isEmpty() && entries.firstKey().dueDate().isBefore(today)) {
+                Key first = entries.pollFirstEntry().getKey();
+                ids.remove(first.taskId());
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.taskmanager.service.impl;
 
+import com.taskmanager.changebus.TaskChange;
+import com.taskmanager.changebus.TaskChangeBus;
 import com.taskmanager.dto.DtoUser;
 import com.taskmanager.dto.DtoUserIU;
 import com.taskmanager.dto.DtoUserUpdate;
@@ -8,8 +10,10 @@ import com.taskmanager.exception.MessageType;
 import com.taskmanager.model.User;
 import com.taskmanager.repository.UserRepository;
 import com.taskmanager.service.IUserService;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -20,24 +24,33 @@ import java.util.Optional;
 @Service
 public class UserServiceImpl implements IUserService {
 
+    /** V2 migration'ındaki lower(email) benzersiz indeksi. */
+    private static final String EMAIL_UNIQUE_INDEX = "uk_users_email_lower";
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private EmailIndex emailIndex;
+
+    @Autowired
+    private UpcomingTaskIndex upcomingTaskIndex;
+
+    @Autowired
+    private TaskChangeBus changeBus;
+
     @Override
     public DtoUser saveUser(DtoUserIU dtoUserIU) {
-        // Email kontrolü
-        if (userRepository.findByEmail(dtoUserIU.getEmail()).isPresent()) {
-            throw new BaseException(MessageType.EMAIL_IN_USE);
-        }
-
         User user = new User();
         BeanUtils.copyProperties(dtoUserIU, user);
+        user.setEmail(EmailIndex.normalize(dtoUserIU.getEmail()));
         user.setPassword(passwordEncoder.encode(dtoUserIU.getPassword()));
 
-        User savedUser = userRepository.save(user);
+        // Önce ekle: email benzersizliğini lower(email) indeksi garanti eder, ayrıca sorgu yapılmaz
+        User savedUser = saveUnique(user);
         DtoUser dto = new DtoUser();
         BeanUtils.copyProperties(savedUser, dto);
         return dto;
@@ -72,14 +85,9 @@ public class UserServiceImpl implements IUserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new BaseException(MessageType.NO_RECORD_EXIST, "Kullanıcı bulunamadı"));
 
-        // Email değişikliği varsa kontrol et
-        if (!user.getEmail().equals(dtoUserIU.getEmail()) &&
-                userRepository.findByEmail(dtoUserIU.getEmail()).isPresent()) {
-            throw new BaseException(MessageType.EMAIL_IN_USE);
-        }
-
         BeanUtils.copyProperties(dtoUserIU, user);
-        User updatedUser = userRepository.save(user);
+        user.setEmail(EmailIndex.normalize(dtoUserIU.getEmail()));
+        User updatedUser = saveUnique(user);
 
         DtoUser dto = new DtoUser();
         BeanUtils.copyProperties(updatedUser, dto);
@@ -92,11 +100,13 @@ public class UserServiceImpl implements IUserService {
             throw new BaseException(MessageType.NO_RECORD_EXIST, "Kullanıcı bulunamadı");
         }
         userRepository.deleteById(id);
+        upcomingTaskIndex.invalidate(id);
+        changeBus.publish(TaskChange.allTasksOf(id));
     }
 
     @Override
     public Optional<User> login(String email, String rawPassword) {
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findByNormalizedEmail(EmailIndex.normalize(email))
                 .orElseThrow(() -> new BaseException(MessageType.NO_RECORD_EXIST, "E-posta bulunamadı"));
 
         if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
@@ -111,12 +121,6 @@ public class UserServiceImpl implements IUserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new BaseException(MessageType.NO_RECORD_EXIST, "Kullanıcı bulunamadı"));
 
-        // Email değişikliği varsa ve yeni email başka bir kullanıcı tarafından kullanılıyorsa
-        if (!user.getEmail().equals(dtoUserUpdate.getEmail()) &&
-                userRepository.findByEmail(dtoUserUpdate.getEmail()).isPresent()) {
-            throw new BaseException(MessageType.EMAIL_IN_USE);
-        }
-
         // Şifre değişikliği varsa kontrol et
         if (dtoUserUpdate.getNewPassword() != null && !dtoUserUpdate.getNewPassword().isEmpty()) {
             if (dtoUserUpdate.getCurrentPassword() == null || dtoUserUpdate.getCurrentPassword().isEmpty()) {
@@ -134,11 +138,51 @@ public class UserServiceImpl implements IUserService {
 
         // Diğer bilgileri güncelle
         user.setFullName(dtoUserUpdate.getFullName());
-        user.setEmail(dtoUserUpdate.getEmail());
+        user.setEmail(EmailIndex.normalize(dtoUserUpdate.getEmail()));
 
-        User updatedUser = userRepository.save(user);
+        User updatedUser = saveUnique(user);
         DtoUser dtoUser = new DtoUser();
         BeanUtils.copyProperties(updatedUser, dtoUser);
         return dtoUser;
     }
+
+    @Override
+    public boolean isEmailAvailable(String email) {
+        String normalized = EmailIndex.normalize(email);
+        if (normalized == null || normalized.isEmpty()) {
+            throw new BaseException(MessageType.REQUIRED_FIELD, "Email");
+        }
+        // Filtre adresi görmediyse kesinlikle boştur; olası eşleşmede veritabanına sorulur
+        return !emailIndex.mightExist(normalized) || !userRepository.existsByNormalizedEmail(normalized);
+    }
+
+    /**
+     * Kullanıcıyı kaydeder; email başka bir kullanıcıda varsa benzersiz indeks ihlali
+     * {@link MessageType#EMAIL_IN_USE} hatasına dönüştürülür. Diğer bütünlük ihlalleri
+     * (ör. boş zorunlu alan) olduğu gibi fırlatılır.
+     */
+    private User saveUnique(User user) {
+        User saved;
+        try {
+            saved = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isEmailConflict(e)) {
+                throw new BaseException(MessageType.EMAIL_IN_USE);
+            }
+            throw e;
+        }
+        emailIndex.add(saved.getEmail());
+        // Diğer instance'ların e-posta filtreleri de yeni adresi öğrenir
+        changeBus.publish(TaskChange.allTasksOf(saved.getId()));
+        return saved;
+    }
+
+    private static boolean isEmailConflict(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return EMAIL_UNIQUE_INDEX.equalsIgnoreCase(violation.getConstraintName());
+            }
+        }
+        return false;
+    }
 }
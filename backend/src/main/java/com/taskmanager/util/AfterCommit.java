@@ -0,0 +1,27 @@
+package com.taskmanager.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bellekteki yapıları yalnızca kalıcı hale gelmiş yazmalarla güncellemek için: etkin bir
+ * transaction varsa işi commit sonrasına erteler (geri alınırsa hiç çalışmaz), yoksa hemen çalıştırır.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.taskmanager.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Kanban sütunlarındaki sıra için kesirli sıra anahtarları. Anahtar, 62 tabanlı bir kesrin
+ * basamaklarıdır ({@code "V"} = 0.5); karakterler ASCII sırasında olduğundan anahtarlar
+ * metin olarak karşılaştırıldığında kesir değerleriyle aynı sırayı verir.
+ *
+ * <p>İki anahtarın arasına her zaman yeni bir anahtar üretilebilir, böylece taşıma yalnızca
+ * taşınan satırı değiştirir. Aynı noktaya art arda ekleme anahtarları uzatır; uzayan sütunlar
+ * {@link #evenlySpaced(int)} ile yeniden numaralandırılır. Anahtarlar hiçbir zaman {@code '0'}
+ * ile bitmez, aksi halde {@code "a"} ile {@code "a0"} gibi arası boş iki anahtar oluşabilirdi.
+ */
+public final class RankKey {
+
+    static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private RankKey() {
+    }
+
+    /**
+     * @param lower alt sınır, sütun başı için null
+     * @param upper üst sınır, sütun sonu için null
+     * @return {@code lower < sonuç < upper} olan en kısa anahtarlardan biri
+     */
+    public static String between(String lower, String upper) {
+        String a = lower == null ? "" : lower;
+        if (!a.isEmpty()) {
+            validate(a);
+        }
+        if (upper != null) {
+            validate(upper);
+            if (a.compareTo(upper) >= 0) {
+                throw new IllegalArgumentException("Alt sınır üst sınırdan küçük olmalıdır: " + lower + ", " + upper);
+            }
+        }
+        return midpoint(a, upper);
+    }
+
+    /**
+     * Sütunun sonuna ekleme için {@code last}'tan büyük anahtar. Ortaya bölmek yerine soldan ilk
+     * {@code 'z'} olmayan basamak artırılır; anahtar çoğu zaman kısalır, art arda eklemelerde
+     * yalnızca tüm basamakları {@code 'z'} olduğunda bir karakter uzar.
+     *
+     * @param last sütundaki en büyük anahtar, sütun boşsa null
+     */
+    public static String after(String last) {
+        if (last == null) {
+            return between(null, null);
+        }
+        validate(last);
+        for (int i = 0; i < last.length(); i++) {
+            int digit = DIGITS.indexOf(last.charAt(i));
+            if (digit < BASE - 1) {
+                return last.substring(0, i) + DIGITS.charAt(digit + 1);
+            }
+        }
+        return last + DIGITS.charAt(BASE / 2);
+    }
+
+    /** Sütunu yeniden numaralandırmak için sıralı, eşit aralıklı ve mümkün olan en kısa {@code count} anahtar. */
+    public static List<String> evenlySpaced(int count) {
+        int width = 1;
+        long span = BASE;
+        while (span < count + 1L) {
+            width++;
+            span *= BASE;
+        }
+        long step = span / (count + 1L);
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            keys.add(encode(i * step, width));
+        }
+        return keys;
+    }
+
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            // Ortak önek korunur, kalan kısım için ara değer aranır ('a' kısa ise '0' ile uzatılmış sayılır)
+            int n = 0;
+            while (n < b.length() && (n < a.length() ? a.charAt(n) : '0') == b.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return b.substring(0, n) + midpoint(n < a.length() ? a.substring(n) : "", b.substring(n));
+            }
+        }
+        int digitA = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int digitB = b != null ? DIGITS.indexOf(b.charAt(0)) : BASE;
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB + 1) / 2));
+        }
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.length() > 1 ? a.substring(1) : "", null);
+    }
+
+    private static String encode(long value, int width) {
+        char[] chars = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            chars[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        int end = width;
+        while (end > 1 && chars[end - 1] == '0') {
+            end--;
+        }
+        return new String(chars, 0, end);
+    }
+
+    private static void validate(String key) {
+        if (key.isEmpty() || key.charAt(key.length() - 1) == '0') {
+            throw new IllegalArgumentException("Geçersiz sıra anahtarı: " + key);
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Geçersiz sıra anahtarı: " + key);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.taskmanager.util;
+
+import com.taskmanager.model.RecurrenceFrequency;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tekrar kuralını verilen tarih aralığı için açar. Aralıktaki ilk tekrarın sırası
+ * doğrudan hesaplanır, bu yüzden maliyet serinin uzunluğuna değil aralıktaki tekrar sayısına bağlıdır.
+ * Her tekrar başlangıç tarihinden hesaplanır (ör. ayın 31'i için kısa aylarda ayın son günü), kayma olmaz.
+ */
+public final class RecurrenceExpander {
+
+    private RecurrenceExpander() {
+    }
+
+    /**
+     * @param count  tekrar sayısı sınırı, yoksa null
+     * @param until  son tekrar tarihi sınırı, yoksa null
+     * @return {@code from} ile {@code to} arasındaki (ikisi dahil) tekrar tarihleri, sıralı
+     */
+    public static List<LocalDate> expand(RecurrenceFrequency frequency, int interval, LocalDate start,
+                                         LocalDate until, Integer count, Set<LocalDate> excluded,
+                                         LocalDate from, LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate end = until != null && until.isBefore(to) ? until : to;
+        if (end.isBefore(start) || end.isBefore(from)) {
+            return dates;
+        }
+
+        long index = firstIndexOnOrAfter(frequency, interval, start, from);
+        long maxIndex = count != null ? count - 1L : Long.MAX_VALUE;
+        for (; index <= maxIndex; index++) {
+            LocalDate date = occurrence(frequency, interval, start, index);
+            if (date.isAfter(end)) {
+                break;
+            }
+            if (excluded == null || !excluded.contains(date)) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    /** Serinin {@code index}. tekrarının tarihi (0'dan başlar). */
+    public static LocalDate occurrence(RecurrenceFrequency frequency, int interval, LocalDate start, long index) {
+        return switch (frequency) {
+            case DAILY -> start.plusDays(index * interval);
+            case WEEKLY -> start.plusWeeks(index * interval);
+            case MONTHLY -> start.plusMonths(index * interval);
+        };
+    }
+
+    /** {@code date} serinin bir tekrarıysa sırası, değilse -1. */
+    public static long indexOf(RecurrenceFrequency frequency, int interval, LocalDate start, LocalDate date) {
+        if (date.isBefore(start)) {
+            return -1;
+        }
+        long index = firstIndexOnOrAfter(frequency, interval, start, date);
+        return occurrence(frequency, interval, start, index).equals(date) ? index : -1;
+    }
+
+    private static long firstIndexOnOrAfter(RecurrenceFrequency frequency, int interval, LocalDate start, LocalDate from) {
+        if (!from.isAfter(start)) {
+            return 0;
+        }
+        long units = switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(start, from);
+            case WEEKLY -> ChronoUnit.WEEKS.between(start, from);
+            case MONTHLY -> ChronoUnit.MONTHS.between(start, from);
+        };
+        long index = units / interval;
+        // Tam bölünmeyen aralıklar ve ay sonu kırpması için en fazla birkaç adım ilerle
+        while (occurrence(frequency, interval, start, index).isBefore(from)) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,18 @@
+-- Hibernate ddl-auto=update ile oluşan şemanın aynısı. Mevcut veritabanlarında
+-- baseline-on-migrate sayesinde bu sürüm atlanır.
+CREATE TABLE IF NOT EXISTS users (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    full_name  VARCHAR(255) NOT NULL,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title       VARCHAR(100) NOT NULL,
+    description TEXT,
+    status      VARCHAR(255) NOT NULL CHECK (status IN ('TO_DO', 'IN_PROGRESS', 'DONE')),
+    due_date    DATE,
+    user_id     BIGINT       NOT NULL REFERENCES users (id)
+);
@@ -0,0 +1,54 @@
+-- ddl-auto=update ile oluşmuş veritabanlarında aynı e-postanın yalnızca büyük/küçük harf
+-- (veya baştaki/sondaki boşluk) farkıyla kaydedilmiş hesapları olabilir; bu durumda aşağıdaki
+-- benzersiz indeks oluşturulamaz. Hangi hesabın kalacağı (şifresi, görevleri) otomatik seçilemez;
+-- migration çakışan e-postaları listeleyerek durur ve hesaplar elle birleştirilene kadar uygulama açılmaz.
+DO
+$$
+    DECLARE
+        conflicts TEXT;
+    BEGIN
+        SELECT string_agg(format('%s (id: %s)', email_key, ids), ', ' ORDER BY email_key)
+        INTO conflicts
+        FROM (SELECT lower(trim(email)) AS email_key, string_agg(id::text, ', ' ORDER BY id) AS ids
+              FROM users
+              GROUP BY lower(trim(email))
+              HAVING count(*) > 1) duplicates;
+
+        IF conflicts IS NOT NULL THEN
+            RAISE EXCEPTION 'Büyük/küçük harf farkıyla tekrarlanan e-postalar var: %', conflicts
+                USING HINT = 'Her e-posta için tek hesap bırakın (görevleri taşıyıp diğerlerini silin veya e-postalarını değiştirin), sonra uygulamayı yeniden başlatın. Ayrıntılar README''de.';
+        END IF;
+    END
+$$;
+
+-- Uygulama e-postaları EmailIndex.normalize ile (trim + küçük harf) saklar ve arar
+UPDATE users
+SET email = lower(trim(email))
+WHERE email <> lower(trim(email));
+
+-- ddl-auto'nun email sütununa koyduğu (adı üretilmiş) benzersiz kısıt aşağıdaki indeksle gereksizleşir;
+-- kaldırılır ki email çakışmaları her zaman uk_users_email_lower adıyla raporlansın
+DO
+$$
+    DECLARE
+        legacy RECORD;
+    BEGIN
+        FOR legacy IN
+            SELECT con.conname
+            FROM pg_constraint con
+                     JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = con.conkey[1]
+            WHERE con.conrelid = 'users'::regclass
+              AND con.contype = 'u'
+              AND cardinality(con.conkey) = 1
+              AND att.attname = 'email'
+            LOOP
+                EXECUTE format('ALTER TABLE users DROP CONSTRAINT %I', legacy.conname);
+            END LOOP;
+    END
+$$;
+
+-- Email benzersizliği büyük/küçük harf duyarsızdır; kayıt işlemleri önce ekler, çakışmayı bu indeks yakalar
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_email_lower ON users (lower(email));
+
+-- /api/tasks/user/{userId}: kullanıcının görevleri bitiş tarihine göre
+CREATE INDEX IF NOT EXISTS idx_tasks_user_due_date ON tasks (user_id, due_date);
@@ -0,0 +1,27 @@
+-- Tekrarlayan görev serileri: tekrarlar sorgu anında hesaplanır, yalnızca değiştirilenler tasks tablosuna yazılır
+CREATE TABLE task_series (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title            VARCHAR(100) NOT NULL,
+    description      TEXT,
+    status           VARCHAR(255) NOT NULL CHECK (status IN ('TO_DO', 'IN_PROGRESS', 'DONE')),
+    frequency        VARCHAR(255) NOT NULL CHECK (frequency IN ('DAILY', 'WEEKLY', 'MONTHLY')),
+    repeat_interval  INTEGER      NOT NULL CHECK (repeat_interval > 0),
+    start_date       DATE         NOT NULL,
+    until_date       DATE,
+    occurrence_count INTEGER,
+    user_id          BIGINT       NOT NULL REFERENCES users (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_task_series_user_start ON task_series (user_id, start_date);
+
+CREATE TABLE task_series_exceptions (
+    series_id       BIGINT NOT NULL REFERENCES task_series (id) ON DELETE CASCADE,
+    occurrence_date DATE   NOT NULL,
+    PRIMARY KEY (series_id, occurrence_date)
+);
+
+ALTER TABLE tasks ADD COLUMN series_id BIGINT REFERENCES task_series (id) ON DELETE CASCADE;
+ALTER TABLE tasks ADD COLUMN occurrence_date DATE;
+
+-- Bir tekrar en fazla bir kez saklanır
+CREATE UNIQUE INDEX uk_tasks_series_occurrence ON tasks (series_id, occurrence_date) WHERE series_id IS NOT NULL;
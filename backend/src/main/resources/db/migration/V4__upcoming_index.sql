@@ -0,0 +1,2 @@
+-- /api/tasks/user/{userId}/upcoming soğuk başlangıcı: tamamlanmamış görevler bitiş tarihine göre sıralı
+CREATE INDEX idx_tasks_user_upcoming ON tasks (user_id, due_date, id) WHERE status <> 'DONE';
@@ -0,0 +1,2 @@
+-- Görev sürümü: iyimser kilit ve instance'lar arası değişiklik bildirimleri (changebus)
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
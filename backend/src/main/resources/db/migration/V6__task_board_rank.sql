@@ -0,0 +1,15 @@
+-- Kanban sırası: kullanıcı ve durum başına kesirli sıra anahtarı (RankKey).
+-- "C" collation ile anahtarlar bayt sırasında karşılaştırılır, Java'daki String sırasıyla aynıdır.
+ALTER TABLE tasks ADD COLUMN board_rank VARCHAR(255) COLLATE "C";
+
+-- Mevcut görevler bitiş tarihine göre sıralanır; sabit genişlikli ondalık değerler sondaki sıfırlar atılınca da sıralı kalır
+UPDATE tasks t
+SET board_rank = r.board_rank
+FROM (SELECT id,
+             rtrim(lpad((row_number() OVER (PARTITION BY user_id, status ORDER BY due_date NULLS LAST, id))::text,
+                        10, '0'), '0') AS board_rank
+      FROM tasks) r
+WHERE t.id = r.id;
+
+-- /api/tasks/user/{userId}/board/{status}: sütun sıralı okunur, taşımada komşu anahtar indeksten bulunur
+CREATE INDEX idx_tasks_user_status_rank ON tasks (user_id, status, board_rank, id);
@@ -0,0 +1,150 @@
+package com.taskmanager.changebus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskChangeBusTest {
+
+	// Testler flush'u kendisi çağırır
+	private static final Duration FLUSH_INTERVAL = Duration.ofHours(1);
+
+	private InMemoryChangeTransport transport;
+	private RecordingListener nodeA;
+	private RecordingListener nodeB;
+	private TaskChangeBus busA;
+	private TaskChangeBus busB;
+
+	@BeforeEach
+	void setUp() {
+		transport = new InMemoryChangeTransport();
+		nodeA = new RecordingListener();
+		nodeB = new RecordingListener();
+		busA = new TaskChangeBus(transport, List.of(nodeA), FLUSH_INTERVAL);
+		busB = new TaskChangeBus(transport, List.of(nodeB), FLUSH_INTERVAL);
+		busA.start();
+		busB.start();
+	}
+
+	@Test
+	void deliversToOtherInstancesOnly() {
+		busA.publish(TaskChange.saved(1, 10, 0));
+		busA.flush();
+
+		assertTrue(nodeA.changes.isEmpty());
+		assertEquals(List.of(TaskChange.saved(1, 10, 0)), nodeB.changes);
+	}
+
+	@Test
+	void flushesInTheBackgroundAfterStart() throws InterruptedException {
+		RecordingListener remote = new RecordingListener();
+		TaskChangeBus sender = new TaskChangeBus(transport, List.of(), Duration.ofMillis(10));
+		TaskChangeBus receiver = new TaskChangeBus(transport, List.of(remote), FLUSH_INTERVAL);
+		sender.start();
+		receiver.start();
+		try {
+			sender.publish(TaskChange.saved(1, 10, 0));
+			long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+			while (remote.size() == 0 && System.nanoTime() < deadline) {
+				Thread.sleep(5);
+			}
+			assertEquals(1, remote.size());
+		} finally {
+			sender.stop();
+			receiver.stop();
+		}
+	}
+
+	@Test
+	void coalescesChangesToSameTask() {
+		busA.publish(TaskChange.saved(1, 10, 0));
+		busA.publish(TaskChange.saved(1, 10, 2));
+		busA.publish(TaskChange.saved(1, 10, 1));
+		busA.publish(TaskChange.saved(1, 11, 0));
+		assertEquals(2, busA.pendingCount());
+
+		busA.flush();
+
+		assertEquals(1, nodeB.batches);
+		assertTrue(nodeB.changes.contains(TaskChange.saved(1, 10, 2)));
+		assertTrue(nodeB.changes.contains(TaskChange.saved(1, 11, 0)));
+		assertEquals(0, busA.pendingCount());
+	}
+
+	@Test
+	void deleteWinsOverSave() {
+		busA.publish(TaskChange.deleted(1, 10, 3));
+		busA.publish(TaskChange.saved(1, 10, 5));
+		busA.flush();
+
+		assertEquals(List.of(TaskChange.deleted(1, 10, 3)), nodeB.changes);
+	}
+
+	@Test
+	void splitsLargeBatchesWithinPayloadLimit() {
+		for (long taskId = 1; taskId <= 2000; taskId++) {
+			busA.publish(TaskChange.saved(7, taskId, 0));
+		}
+		busA.flush();
+
+		assertTrue(nodeB.batches > 1);
+		assertEquals(2000, nodeB.changes.size());
+	}
+
+	@Test
+	void keepsChangesWhenSendFails() {
+		TaskChangeBus failing = new TaskChangeBus(new InMemoryChangeTransport() {
+			@Override
+			public void send(String payload) {
+				throw new IllegalStateException("bağlantı yok");
+			}
+		}, List.of(), FLUSH_INTERVAL);
+		failing.publish(TaskChange.saved(1, 10, 0));
+		failing.publish(TaskChange.allTasksOf(2));
+
+		failing.flush();
+
+		assertEquals(2, failing.pendingCount());
+	}
+
+	@Test
+	void encodesUserWideChanges() {
+		TaskChange change = TaskChange.allTasksOf(42);
+		assertEquals(List.of(change), TaskChangeBus.decode(TaskChangeBus.encode(change)));
+	}
+
+	@Test
+	void resyncsListenersAfterReconnect() {
+		transport.simulateReconnect();
+
+		assertEquals(1, nodeA.resyncs);
+		assertEquals(1, nodeB.resyncs);
+	}
+
+	private static class RecordingListener implements TaskChangeListener {
+		// Arka plan flush testinde başka bir thread'den yazılır
+		private final List<TaskChange> changes = new ArrayList<>();
+		private int batches;
+		private int resyncs;
+
+		@Override
+		public synchronized void onTaskChanges(List<TaskChange> received) {
+			batches++;
+			changes.addAll(received);
+		}
+
+		synchronized int size() {
+			return changes.size();
+		}
+
+		@Override
+		public void onResync() {
+			resyncs++;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package com.taskmanager.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.dto.DtoTaskImport;
+import com.taskmanager.handler.ErrorResponseRenderer;
+import com.taskmanager.ratelimit.AdmissionProperties;
+import com.taskmanager.ratelimit.EndpointGroup;
+import com.taskmanager.ratelimit.RequestAdmissionFilter;
+import com.taskmanager.service.ITaskImportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class TaskControllerImportTest {
+
+	private static final String CSV = "title,description,status,dueDate,userId\nRapor,,TO_DO,,1\n";
+
+	private FakeImportService importService;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		importService = new FakeImportService();
+		TaskController controller = new TaskController();
+		ReflectionTestUtils.setField(controller, "taskImportService", importService);
+		ReflectionTestUtils.setField(controller, "importUploadTimeout", Duration.ofMinutes(1));
+
+		// application.properties'teki içe aktarma sınırları
+		AdmissionProperties.Limit importLimit = new AdmissionProperties.Limit();
+		importLimit.setUserRate(0.1);
+		importLimit.setUserBurst(2);
+		importLimit.setUserConcurrency(1);
+		importLimit.setEndpointRate(1);
+		importLimit.setEndpointBurst(4);
+		AdmissionProperties properties = new AdmissionProperties();
+		properties.getEndpoints().put(EndpointGroup.TASK_IMPORT, importLimit);
+		RequestAdmissionFilter filter = new RequestAdmissionFilter(properties,
+				new ErrorResponseRenderer(new ObjectMapper()), new SimpleMeterRegistry());
+
+		mockMvc = MockMvcBuilders.standaloneSetup(controller).addFilters(filter).build();
+	}
+
+	@Test
+	void uploadCanBePolledUntilItCompletes() throws Exception {
+		MvcResult upload = mockMvc.perform(put("/api/tasks/import/job-1")
+						.contentType("text/csv")
+						.param("fileName", "tasks.csv")
+						.content(CSV))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		// Gövde içe aktarma servisine akış olarak verilir, format Content-Type'tan çözülür
+		assertEquals("job-1", importService.job.getId());
+		assertEquals("text/csv", importService.contentType);
+
+		for (int i = 0; i < 5; i++) {
+			mockMvc.perform(get("/api/tasks/import/job-1"))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.status").value("RUNNING"));
+		}
+
+		assertEquals(CSV, importService.finish());
+		mockMvc.perform(asyncDispatch(upload))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.status").value("COMPLETED"))
+				.andExpect(jsonPath("$.importedRows").value(1));
+		mockMvc.perform(get("/api/tasks/import/job-1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.status").value("COMPLETED"));
+	}
+
+	/** Tek bir içe aktarmayı tutar; test {@link #finish()} çağırana kadar RUNNING kalır. */
+	private static class FakeImportService implements ITaskImportService {
+		private final CompletableFuture<DtoTaskImport> result = new CompletableFuture<>();
+		private InputStream body;
+		private String contentType;
+		private volatile DtoTaskImport job;
+
+		@Override
+		public CompletableFuture<DtoTaskImport> importTasks(String importId, InputStream body, String contentType,
+															String format, String fileName) {
+			this.body = body;
+			this.contentType = contentType;
+			this.job = DtoTaskImport.builder().id(importId).fileName(fileName).status("RUNNING")
+					.startedAt(LocalDateTime.now()).build();
+			return result;
+		}
+
+		String finish() {
+			String content;
+			try {
+				content = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			job = DtoTaskImport.builder().id(job.getId()).fileName(job.getFileName()).status("COMPLETED")
+					.processedRows(1).importedRows(1).startedAt(job.getStartedAt()).finishedAt(LocalDateTime.now()).build();
+			result.complete(job);
+			return content;
+		}
+
+		@Override
+		public DtoTaskImport getImport(String id) {
+			return job;
+		}
+
+		@Override
+		public List<DtoTaskImport> getImports() {
+			return List.of(job);
+		}
+
+		@Override
+		public Resource getErrorFile(String id) {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.taskmanager.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.exception.BaseException;
+import com.taskmanager.exception.MessageType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.util.Date;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * "Kayıt bulunamadı" hata yolunun istek başına ayırdığı bellek ve süre:
+ * eski yol (stack trace'li istisna, ApiError/ExceptionDetail/Date nesneleri, Jackson, getDescription().replace)
+ * ile yeni yol (stack trace'siz istisna, önceden oluşturulmuş gövde) karşılaştırılır.
+ * Çalıştırmak için: {@code mvn -Pbenchmark test}
+ */
+@Tag("benchmark")
+class ErrorPathBenchmark {
+
+	private static final int WARMUP = 200_000;
+	private static final int ITERATIONS = 1_000_000;
+	private static final String PATH = "/api/tasks/list/987654";
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+	private final ErrorResponseRenderer renderer = new ErrorResponseRenderer(objectMapper);
+
+	/** Değişiklikten önceki BaseException ve GlobalExceptionHandler davranışı. */
+	private byte[] legacyPath() {
+		RuntimeException ex = new RuntimeException(MessageType.NO_RECORD_EXIST.getMessage() + ": " + "Görev bulunamadı");
+		GlobalExceptionHandler.ExceptionDetail<String> detail = new GlobalExceptionHandler.ExceptionDetail<>();
+		detail.setMessage(ex.getMessage());
+		detail.setPath(("uri=" + PATH).replace("uri=", ""));
+		detail.setTimestamp(new Date());
+		GlobalExceptionHandler.ApiError<String> apiError = new GlobalExceptionHandler.ApiError<>();
+		apiError.setStatus(HttpStatus.BAD_REQUEST.value());
+		apiError.setException(detail);
+		try {
+			return objectMapper.writeValueAsBytes(apiError);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private byte[] currentPath() {
+		BaseException ex = new BaseException(MessageType.NO_RECORD_EXIST, "Görev bulunamadı");
+		return renderer.render(HttpStatus.BAD_REQUEST, PATH, ex.getMessageType(), ex.getAdditionalInfo());
+	}
+
+	@Test
+	void errorPathAllocation() {
+		Result legacy = measure(this::legacyPath);
+		Result current = measure(this::currentPath);
+
+		System.out.printf("eski yol : %8.1f bayt/istek %8.1f ns/istek%n", legacy.bytesPerOp, legacy.nanosPerOp);
+		System.out.printf("yeni yol : %8.1f bayt/istek %8.1f ns/istek%n", current.bytesPerOp, current.nanosPerOp);
+		System.out.printf("azalma   : %8.1f%% bellek, %6.1f%% süre%n",
+				100 * (1 - current.bytesPerOp / legacy.bytesPerOp), 100 * (1 - current.nanosPerOp / legacy.nanosPerOp));
+
+		assertTrue(current.bytesPerOp < legacy.bytesPerOp);
+	}
+
+	private record Result(double bytesPerOp, double nanosPerOp) {
+	}
+
+	private static Result measure(Supplier<byte[]> operation) {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long sink = 0;
+		for (int i = 0; i < WARMUP; i++) {
+			sink += operation.get().length;
+		}
+		long threadId = Thread.currentThread().getId();
+		long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			sink += operation.get().length;
+		}
+		long elapsed = System.nanoTime() - start;
+		long allocated = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+		assertTrue(sink > 0);
+		return new Result((double) allocated / ITERATIONS, (double) elapsed / ITERATIONS);
+	}
+}
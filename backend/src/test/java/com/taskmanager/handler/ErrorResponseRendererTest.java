@@ -0,0 +1,75 @@
+package com.taskmanager.handler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.exception.BaseException;
+import com.taskmanager.exception.MessageType;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorResponseRendererTest {
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+	private final ErrorResponseRenderer renderer = new ErrorResponseRenderer(objectMapper);
+
+	/** Önceden oluşturulan gövde, ApiError nesnesinin Jackson çıktısıyla bayt bayt aynı olmalı. */
+	private void assertSameAsJackson(HttpStatus status, String path, String message, byte[] rendered) throws Exception {
+		JsonNode node = objectMapper.readTree(rendered);
+		Date timestamp = objectMapper.convertValue(node.get("exception").get("timestamp"), Date.class);
+
+		GlobalExceptionHandler.ExceptionDetail<String> detail = new GlobalExceptionHandler.ExceptionDetail<>();
+		detail.setPath(path);
+		detail.setTimestamp(timestamp);
+		detail.setMessage(message);
+		GlobalExceptionHandler.ApiError<String> apiError = new GlobalExceptionHandler.ApiError<>();
+		apiError.setStatus(status.value());
+		apiError.setException(detail);
+
+		assertEquals(objectMapper.writeValueAsString(apiError), new String(rendered, StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void rendersMessageTypeLikeJackson() throws Exception {
+		byte[] body = renderer.render(HttpStatus.BAD_REQUEST, "/api/tasks/list/42", MessageType.WRONG_PASSWORD, null);
+
+		assertSameAsJackson(HttpStatus.BAD_REQUEST, "/api/tasks/list/42", MessageType.WRONG_PASSWORD.getMessage(), body);
+	}
+
+	@Test
+	void rendersAdditionalInfoAndEscapesPath() throws Exception {
+		String path = "/api/\"odd\"\\path";
+		byte[] body = renderer.render(HttpStatus.BAD_REQUEST, path, MessageType.NO_RECORD_EXIST, "Görev \"bulunamadı\"");
+
+		assertSameAsJackson(HttpStatus.BAD_REQUEST, path,
+				BaseException.formatMessage(MessageType.NO_RECORD_EXIST, "Görev \"bulunamadı\""), body);
+	}
+
+	@Test
+	void baseExceptionHasNoStackTrace() {
+		BaseException ex = new BaseException(MessageType.NO_RECORD_EXIST, "Görev bulunamadı");
+
+		assertEquals(0, ex.getStackTrace().length);
+		assertEquals("Kayıt bulunamadı: Görev bulunamadı", ex.getMessage());
+	}
+
+	@Test
+	void frequentMessagesStayCachedAfterFlood() {
+		// Önce tekil ek bilgilerle önbellek doldurulur
+		for (int i = 0; i < 5000; i++) {
+			renderer.cachedSuffix("Görev bulunamadı: " + i);
+		}
+		byte[] hot = renderer.cachedSuffix("Görev bulunamadı");
+		for (int i = 5000; i < 10000; i++) {
+			renderer.cachedSuffix("Görev bulunamadı: " + i);
+			if (i % 100 == 0) {
+				assertSame(hot, renderer.cachedSuffix("Görev bulunamadı"));
+			}
+		}
+	}
+}
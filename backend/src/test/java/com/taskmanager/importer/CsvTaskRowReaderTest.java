@@ -0,0 +1,54 @@
+package com.taskmanager.importer;
+
+import com.taskmanager.dto.DtoTaskIU;
+import com.taskmanager.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvTaskRowReaderTest {
+
+	private CsvTaskRowReader reader(String csv) throws Exception {
+		return new CsvTaskRowReader(new BufferedReader(new StringReader(csv)));
+	}
+
+	@Test
+	void readsQuotedFieldsAndMultilineValues() throws Exception {
+		CsvTaskRowReader reader = reader("userId,title,status,dueDate,description\n"
+				+ "7,\"Rapor, taslak\",in_progress,2025-03-01,\"ilk satır\nikinci \"\"satır\"\"\"\n"
+				+ "8,Toplantı,DONE,,\n");
+
+		DtoTaskIU first = reader.next();
+		assertEquals(7L, first.getUserId());
+		assertEquals("Rapor, taslak", first.getTitle());
+		assertEquals(TaskStatus.IN_PROGRESS, first.getStatus());
+		assertEquals(LocalDate.of(2025, 3, 1), first.getDueDate());
+		assertEquals("ilk satır\nikinci \"satır\"", first.getDescription());
+		assertEquals(3, reader.getLineNumber());
+
+		DtoTaskIU second = reader.next();
+		assertEquals("Toplantı", second.getTitle());
+		assertNull(second.getDueDate());
+		assertNull(second.getDescription());
+
+		assertNull(reader.next());
+	}
+
+	@Test
+	void invalidRowDoesNotStopReading() throws Exception {
+		CsvTaskRowReader reader = reader("title,status,userId\nA,UNKNOWN,1\nB,TO_DO,2\n");
+
+		assertThrows(TaskRowException.class, reader::next);
+		assertEquals(2, reader.getLineNumber());
+		assertEquals("B", reader.next().getTitle());
+	}
+
+	@Test
+	void missingRequiredColumnIsRejected() {
+		assertThrows(TaskRowException.class, () -> reader("title,status\nA,TO_DO\n"));
+	}
+}
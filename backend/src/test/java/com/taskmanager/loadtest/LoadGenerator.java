@@ -0,0 +1,112 @@
+package com.taskmanager.loadtest;
+
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Açık modelli yük üreteci: istekler, önceki isteklerin bitmesini beklemeden sabit
+ * hızda planlanır. Gecikme, isteğin planlandığı andan yanıtın geldiği ana kadar ölçülür;
+ * böylece sunucu yavaşladığında biriken bekleme de sonuçlara yansır (coordinated omission).
+ */
+class LoadGenerator {
+
+	/** Ağırlıklı bir senaryo; her çağrıda yeni bir istek üretir. */
+	record Scenario(String name, int weight, Supplier<HttpRequest> request) {
+	}
+
+	static class EndpointStats {
+		final Recorder latency = new Recorder(TimeUnit.MINUTES.toNanos(1), 3);
+		final LongAdder errors = new LongAdder();
+	}
+
+	private final HttpClient client;
+	private final List<Scenario> scenarios;
+	private final int totalWeight;
+	private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+
+	LoadGenerator(HttpClient client, List<Scenario> scenarios) {
+		this.client = client;
+		this.scenarios = scenarios;
+		this.totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+		for (Scenario scenario : scenarios) {
+			stats.put(scenario.name(), new EndpointStats());
+		}
+	}
+
+	Map<String, EndpointStats> getStats() {
+		return stats;
+	}
+
+	/** Isınma sonrası ölçümleri sıfırlamak için kayıtlı aralıkları atar. */
+	void reset() {
+		for (EndpointStats endpoint : stats.values()) {
+			endpoint.latency.reset();
+			endpoint.errors.reset();
+		}
+	}
+
+	/** @return ilk istekten son yanıta kadar geçen gerçek süre */
+	Duration run(int ratePerSecond, Duration duration, int concurrency) throws InterruptedException {
+		long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+		long start = System.nanoTime();
+		long end = start + duration.toNanos();
+		// Eşzamanlı istek sınırı: yeni istek yer açılana kadar bekler, gecikmesi planlanan zamandan sayılır
+		Semaphore permits = new Semaphore(concurrency);
+		ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+		try {
+			for (long intended = start; intended < end; intended += intervalNanos) {
+				long wait = intended - System.nanoTime();
+				if (wait > 0) {
+					LockSupport.parkNanos(wait);
+				}
+				Scenario scenario = pick();
+				EndpointStats endpoint = stats.get(scenario.name());
+				long intendedStart = intended;
+				permits.acquire();
+				workers.execute(() -> {
+					try {
+						HttpResponse<Void> response = client.send(scenario.request().get(), HttpResponse.BodyHandlers.discarding());
+						if (response.statusCode() >= 500) {
+							endpoint.errors.increment();
+						}
+					} catch (Exception e) {
+						endpoint.errors.increment();
+					} finally {
+						endpoint.latency.recordValue(System.nanoTime() - intendedStart);
+						permits.release();
+					}
+				});
+			}
+		} finally {
+			workers.shutdown();
+			workers.awaitTermination(1, TimeUnit.MINUTES);
+		}
+		return Duration.ofNanos(System.nanoTime() - start);
+	}
+
+	private Scenario pick() {
+		int r = ThreadLocalRandom.current().nextInt(totalWeight);
+		for (Scenario scenario : scenarios) {
+			r -= scenario.weight();
+			if (r < 0) {
+				return scenario;
+			}
+		}
+		return scenarios.get(scenarios.size() - 1);
+	}
+}
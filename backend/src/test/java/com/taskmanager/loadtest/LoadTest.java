@@ -0,0 +1,218 @@
+package com.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Uçtan uca yük testi: uygulamayı gömülü PostgreSQL ile açar, kullanıcı ve görev verisi
+ * oluşturur, karışık okuma/yazma/giriş senaryolarını hedef hızda çalıştırır ve uç nokta
+ * başına gecikme yüzdeliklerini {@code target/load-test/} altına JSON olarak yazar.
+ * Normal test çalıştırmasına dahil değildir: {@code mvn -Pload-test test}
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"admission.enabled=false",
+		"spring.jpa.show-sql=false",
+		"logging.level.org.hibernate.SQL=warn"
+})
+class LoadTest {
+
+	private static final String PASSWORD = "loadtest123";
+	private static final String[] STATUSES = {"TO_DO", "IN_PROGRESS", "DONE"};
+
+	private static EmbeddedPostgres postgres;
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) throws IOException {
+		postgres = EmbeddedPostgres.start();
+		registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+		registry.add("spring.datasource.username", () -> "postgres");
+		registry.add("spring.datasource.password", () -> "postgres");
+	}
+
+	@AfterAll
+	static void stopDatabase() throws IOException {
+		if (postgres != null) {
+			postgres.close();
+		}
+	}
+
+	@Test
+	void mixedWorkload() throws Exception {
+		LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+		long firstUserId = seed(settings);
+		long maxTaskId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM tasks", Long.class);
+
+		HttpClient client = HttpClient.newBuilder()
+				.connectTimeout(Duration.ofSeconds(5))
+				.build();
+		LoadGenerator generator = new LoadGenerator(client, scenarios(settings, firstUserId, maxTaskId));
+
+		generator.run(settings.ratePerSecond(), settings.warmup(), settings.concurrency());
+		generator.reset();
+		Duration elapsed = generator.run(settings.ratePerSecond(), settings.duration(), settings.concurrency());
+
+		Path report = writeReport(settings, generator, elapsed);
+		assertTrue(Files.size(report) > 0);
+	}
+
+	/** Tüm kullanıcılar aynı şifreyi paylaşır, böylece bcrypt yalnızca bir kez hesaplanır. */
+	private long seed(LoadTestSettings settings) {
+		String hash = passwordEncoder.encode(PASSWORD);
+		List<Object[]> users = new ArrayList<>(settings.users());
+		for (int i = 0; i < settings.users(); i++) {
+			users.add(new Object[]{"Load User " + i, "load" + i + "@example.com", hash});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO users (full_name, email, password, created_at) VALUES (?, ?, ?, now())", users);
+		long firstUserId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+
+		List<Object[]> tasks = new ArrayList<>(1_000);
+		LocalDate today = LocalDate.now();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int u = 0; u < settings.users(); u++) {
+			for (int t = 0; t < settings.tasksPerUser(); t++) {
+				tasks.add(new Object[]{"Görev " + t, "Yük testi görevi", STATUSES[random.nextInt(STATUSES.length)],
+						Date.valueOf(today.plusDays(random.nextInt(-30, 90))), firstUserId + u});
+				if (tasks.size() == 1_000) {
+					insertTasks(tasks);
+				}
+			}
+		}
+		insertTasks(tasks);
+		jdbcTemplate.execute("ANALYZE");
+		return firstUserId;
+	}
+
+	private void insertTasks(List<Object[]> tasks) {
+		if (!tasks.isEmpty()) {
+			jdbcTemplate.batchUpdate("INSERT INTO tasks (title, description, status, due_date, user_id) VALUES (?, ?, ?, ?, ?)", tasks);
+			tasks.clear();
+		}
+	}
+
+	private List<LoadGenerator.Scenario> scenarios(LoadTestSettings settings, long firstUserId, long maxTaskId) {
+		String base = "http://localhost:" + port;
+		int users = settings.users();
+		int reads = settings.readWeight();
+		List<LoadGenerator.Scenario> scenarios = new ArrayList<>();
+
+		scenarios.add(new LoadGenerator.Scenario("GET /api/tasks/user/{userId}", Math.max(1, reads * 3 / 4), () ->
+				get(base + "/api/tasks/user/" + randomUser(firstUserId, users))));
+		scenarios.add(new LoadGenerator.Scenario("GET /api/tasks/list/{id}", Math.max(1, reads - reads * 3 / 4), () ->
+				get(base + "/api/tasks/list/" + ThreadLocalRandom.current().nextLong(1, maxTaskId + 1))));
+		scenarios.add(new LoadGenerator.Scenario("POST /api/tasks/save", Math.max(1, settings.writeWeight() / 2), () ->
+				json("POST", base + "/api/tasks/save", taskBody(randomUser(firstUserId, users)))));
+		scenarios.add(new LoadGenerator.Scenario("PUT /api/tasks/update/{id}", Math.max(1, settings.writeWeight() - settings.writeWeight() / 2), () -> {
+			long taskId = ThreadLocalRandom.current().nextLong(1, maxTaskId + 1);
+			long userId = firstUserId + (taskId - 1) / Math.max(1, settings.tasksPerUser());
+			return json("PUT", base + "/api/tasks/update/" + taskId, taskBody(userId));
+		}));
+		scenarios.add(new LoadGenerator.Scenario("POST /api/users/login", Math.max(1, settings.loginWeight()), () ->
+				json("POST", base + "/api/users/login", "{\"email\":\"load" + ThreadLocalRandom.current().nextInt(users)
+						+ "@example.com\",\"password\":\"" + PASSWORD + "\"}")));
+		// Var olmayan kayıtlar: GlobalExceptionHandler hata yolunu ölçer
+		scenarios.add(new LoadGenerator.Scenario("GET /api/tasks/list/{missingId}", Math.max(1, settings.missWeight()), () ->
+				get(base + "/api/tasks/list/" + (maxTaskId + 1 + ThreadLocalRandom.current().nextInt(1_000_000)))));
+		return scenarios;
+	}
+
+	private static long randomUser(long firstUserId, int users) {
+		return firstUserId + ThreadLocalRandom.current().nextInt(users);
+	}
+
+	private static String taskBody(long userId) {
+		return "{\"title\":\"Yük testi\",\"description\":\"açıklama\",\"status\":\"IN_PROGRESS\",\"dueDate\":\""
+				+ LocalDate.now().plusDays(7) + "\",\"userId\":" + userId + "}";
+	}
+
+	private static HttpRequest get(String url) {
+		return HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).GET().build();
+	}
+
+	private static HttpRequest json(String method, String url, String body) {
+		return HttpRequest.newBuilder(URI.create(url))
+				.timeout(Duration.ofSeconds(30))
+				.header("Content-Type", "application/json")
+				.method(method, HttpRequest.BodyPublishers.ofString(body))
+				.build();
+	}
+
+	private Path writeReport(LoadTestSettings settings, LoadGenerator generator, Duration elapsed) throws IOException {
+		Map<String, Object> endpoints = new LinkedHashMap<>();
+		// Yanıtı geciken isteklerin bitmesi beklendiği için ölçülen süre ayarlanan süreden uzun olabilir
+		double seconds = elapsed.toNanos() / 1e9;
+		for (Map.Entry<String, LoadGenerator.EndpointStats> entry : generator.getStats().entrySet()) {
+			Histogram histogram = entry.getValue().latency.getIntervalHistogram();
+			Map<String, Object> result = new LinkedHashMap<>();
+			result.put("count", histogram.getTotalCount());
+			result.put("errors", entry.getValue().errors.sum());
+			result.put("throughputPerSecond", histogram.getTotalCount() / seconds);
+			result.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+			result.put("p90Ms", millis(histogram.getValueAtPercentile(90)));
+			result.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+			result.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+			result.put("maxMs", millis(histogram.getMaxValue()));
+			endpoints.put(entry.getKey(), result);
+		}
+
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("label", settings.label());
+		report.put("timestamp", Instant.now().toString());
+		report.put("settings", settings);
+		report.put("elapsedSeconds", seconds);
+		report.put("endpoints", endpoints);
+
+		Path dir = Path.of("target", "load-test");
+		Files.createDirectories(dir);
+		Path file = dir.resolve("results-" + settings.label() + "-" + System.currentTimeMillis() + ".json");
+		new ObjectMapper()
+				.findAndRegisterModules()
+				.enable(SerializationFeature.INDENT_OUTPUT)
+				.disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+				.writeValue(file.toFile(), report);
+		return file;
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+}
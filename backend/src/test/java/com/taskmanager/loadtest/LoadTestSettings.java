@@ -0,0 +1,70 @@
+package com.taskmanager.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Yük testi ayarları. Tümü sistem özelliği ile değiştirilebilir, örn.
+ * {@code mvn -Pload-test test -Dloadtest.rate=500 -Dloadtest.duration=60}.
+ * Geçersiz değerler test başlamadan, ilgili özelliğin adıyla reddedilir.
+ */
+record LoadTestSettings(
+		int users,
+		int tasksPerUser,
+		int ratePerSecond,
+		Duration warmup,
+		Duration duration,
+		int concurrency,
+		int readWeight,
+		int writeWeight,
+		int loginWeight,
+		int missWeight,
+		String label) {
+
+	/** İstekler arası aralık nanosaniye cinsinden tam sayıdır; daha yüksek hızda aralık 0 olur. */
+	static final int MAX_RATE_PER_SECOND = 1_000_000_000;
+
+	LoadTestSettings {
+		requireAtLeast("loadtest.users", users, 1);
+		requireAtLeast("loadtest.tasksPerUser", tasksPerUser, 1);
+		if (ratePerSecond < 1 || ratePerSecond > MAX_RATE_PER_SECOND) {
+			throw new IllegalArgumentException(
+					"loadtest.rate 1 ile " + MAX_RATE_PER_SECOND + " arasında olmalı: " + ratePerSecond);
+		}
+		if (warmup.isNegative()) {
+			throw new IllegalArgumentException("loadtest.warmup negatif olamaz: " + warmup.toSeconds());
+		}
+		if (duration.isNegative() || duration.isZero()) {
+			throw new IllegalArgumentException("loadtest.duration en az 1 saniye olmalı: " + duration.toSeconds());
+		}
+		requireAtLeast("loadtest.concurrency", concurrency, 1);
+		requireAtLeast("loadtest.mix.read", readWeight, 0);
+		requireAtLeast("loadtest.mix.write", writeWeight, 0);
+		requireAtLeast("loadtest.mix.login", loginWeight, 0);
+		requireAtLeast("loadtest.mix.miss", missWeight, 0);
+		// Etiket sonuç dosyasının adına girer
+		if (label == null || !label.matches("[A-Za-z0-9._-]+")) {
+			throw new IllegalArgumentException("loadtest.label yalnızca harf, rakam, '.', '_' ve '-' içerebilir: " + label);
+		}
+	}
+
+	private static void requireAtLeast(String property, int value, int min) {
+		if (value < min) {
+			throw new IllegalArgumentException(property + " en az " + min + " olmalı: " + value);
+		}
+	}
+
+	static LoadTestSettings fromSystemProperties() {
+		return new LoadTestSettings(
+				Integer.getInteger("loadtest.users", 1_000),
+				Integer.getInteger("loadtest.tasksPerUser", 50),
+				Integer.getInteger("loadtest.rate", 200),
+				Duration.ofSeconds(Integer.getInteger("loadtest.warmup", 10)),
+				Duration.ofSeconds(Integer.getInteger("loadtest.duration", 30)),
+				Integer.getInteger("loadtest.concurrency", 64),
+				Integer.getInteger("loadtest.mix.read", 70),
+				Integer.getInteger("loadtest.mix.write", 20),
+				Integer.getInteger("loadtest.mix.login", 5),
+				Integer.getInteger("loadtest.mix.miss", 5),
+				System.getProperty("loadtest.label", "local"));
+	}
+}
@@ -0,0 +1,35 @@
+package com.taskmanager.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadTestSettingsTest {
+
+	private static LoadTestSettings withRate(int rate) {
+		return new LoadTestSettings(10, 5, rate, Duration.ZERO, Duration.ofSeconds(1), 4, 70, 20, 5, 5, "local");
+	}
+
+	@Test
+	void rateMustGiveAPositiveInterval() {
+		IllegalArgumentException zero = assertThrows(IllegalArgumentException.class, () -> withRate(0));
+		assertTrue(zero.getMessage().startsWith("loadtest.rate"));
+		assertThrows(IllegalArgumentException.class, () -> withRate(LoadTestSettings.MAX_RATE_PER_SECOND + 1));
+
+		assertEquals(LoadTestSettings.MAX_RATE_PER_SECOND, withRate(LoadTestSettings.MAX_RATE_PER_SECOND).ratePerSecond());
+	}
+
+	@Test
+	void systemPropertiesAreValidated() {
+		System.setProperty("loadtest.concurrency", "0");
+		try {
+			IllegalArgumentException e = assertThrows(IllegalArgumentException.class, LoadTestSettings::fromSystemProperties);
+			assertEquals("loadtest.concurrency en az 1 olmalı: 0", e.getMessage());
+		} finally {
+			System.clearProperty("loadtest.concurrency");
+		}
+		assertEquals(200, LoadTestSettings.fromSystemProperties().ratePerSecond());
+	}
+}
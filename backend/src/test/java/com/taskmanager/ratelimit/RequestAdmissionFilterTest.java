@@ -0,0 +1,72 @@
+package com.taskmanager.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.handler.ErrorResponseRenderer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestAdmissionFilterTest {
+
+	private RequestAdmissionFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		// application.properties'teki içe aktarma sınırları
+		AdmissionProperties.Limit importLimit = new AdmissionProperties.Limit();
+		importLimit.setUserRate(0.1);
+		importLimit.setUserBurst(2);
+		importLimit.setUserConcurrency(1);
+		importLimit.setEndpointRate(1);
+		importLimit.setEndpointBurst(4);
+		AdmissionProperties properties = new AdmissionProperties();
+		properties.getEndpoints().put(EndpointGroup.TASK_IMPORT, importLimit);
+		filter = new RequestAdmissionFilter(properties, new ErrorResponseRenderer(new ObjectMapper()), new SimpleMeterRegistry());
+	}
+
+	private static MockHttpServletRequest request(String method, String path) {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+		request.setAsyncSupported(true);
+		return request;
+	}
+
+	@Test
+	void onlyUploadsCountAsImports() {
+		assertEquals(EndpointGroup.TASK_IMPORT, RequestAdmissionFilter.classify("PUT", "/api/tasks/import/job-1"));
+		assertEquals(EndpointGroup.TASK_IMPORT, RequestAdmissionFilter.classify("POST", "/api/tasks/import"));
+		assertEquals(EndpointGroup.DEFAULT, RequestAdmissionFilter.classify("GET", "/api/tasks/import/job-1"));
+		assertEquals(EndpointGroup.DEFAULT, RequestAdmissionFilter.classify("GET", "/api/tasks/import/job-1/errors"));
+	}
+
+	@Test
+	void progressCanBePolledWhileUploadIsRunning() throws Exception {
+		MockHttpServletRequest upload = request("PUT", "/api/tasks/import/job-1");
+		filter.doFilter(upload, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+		assertTrue(upload.isAsyncStarted());
+
+		AtomicInteger polls = new AtomicInteger();
+		for (int i = 0; i < 10; i++) {
+			MockHttpServletResponse response = new MockHttpServletResponse();
+			filter.doFilter(request("GET", "/api/tasks/import/job-1"), response, (req, res) -> polls.incrementAndGet());
+			assertEquals(200, response.getStatus());
+		}
+		assertEquals(10, polls.get());
+
+		// Yükleme sürerken aynı istemcinin ikinci yüklemesi eşzamanlılık sınırına takılır
+		MockHttpServletResponse second = new MockHttpServletResponse();
+		filter.doFilter(request("PUT", "/api/tasks/import/job-2"), second, (req, res) -> fail("kabul edilmemeliydi"));
+		assertEquals(429, second.getStatus());
+
+		// Yükleme bitince hak geri verilir
+		upload.getAsyncContext().complete();
+		MockHttpServletResponse third = new MockHttpServletResponse();
+		filter.doFilter(request("PUT", "/api/tasks/import/job-3"), third, (req, res) -> { });
+		assertEquals(200, third.getStatus());
+	}
+}
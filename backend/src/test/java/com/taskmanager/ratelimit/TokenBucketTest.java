@@ -0,0 +1,96 @@
+package com.taskmanager.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	@Test
+	void allowsBurstThenRefillsAtRate() {
+		TokenBucket bucket = new TokenBucket(2, 3, 0);
+
+		assertEquals(0, bucket.tryAcquire(0));
+		assertEquals(0, bucket.tryAcquire(0));
+		assertEquals(0, bucket.tryAcquire(0));
+		long wait = bucket.tryAcquire(0);
+		assertEquals(SECOND / 2, wait);
+
+		assertEquals(0, bucket.tryAcquire(wait));
+		assertTrue(bucket.tryAcquire(wait) > 0);
+	}
+
+	@Test
+	void peekDoesNotConsume() {
+		TokenBucket bucket = new TokenBucket(1, 1, 0);
+
+		assertEquals(0, bucket.peek(0));
+		assertEquals(0, bucket.peek(0));
+		assertEquals(0, bucket.tryAcquire(0));
+		assertEquals(SECOND, bucket.peek(0));
+	}
+
+	@Test
+	void rejectedRequestDoesNotDrainEarlierBuckets() {
+		TokenBucket client = new TokenBucket(1, 2, 0);
+		TokenBucket endpoint = new TokenBucket(1, 1, 0);
+		assertEquals(0, RequestAdmissionFilter.acquireAll(0, client, endpoint));
+
+		for (int i = 0; i < 10; i++) {
+			assertTrue(RequestAdmissionFilter.acquireAll(0, client, endpoint) > 0);
+		}
+		// İstemcinin ikinci token'ı reddedilen isteklerde harcanmadı
+		assertEquals(0, client.tryAcquire(0));
+	}
+
+	@Test
+	void pathUserIsOnlyReadFromUserPaths() {
+		assertEquals("42", RequestAdmissionFilter.pathUserId("/api/tasks/user/42/upcoming"));
+		assertEquals("7", RequestAdmissionFilter.pathUserId("/api/series/user/7"));
+		assertNull(RequestAdmissionFilter.pathUserId("/api/tasks/list/42"));
+	}
+
+	@Test
+	void becomesIdleAfterRefill() {
+		TokenBucket bucket = new TokenBucket(1, 1, 0);
+		bucket.tryAcquire(0);
+
+		assertFalse(bucket.isIdle(SECOND / 2, 0));
+		assertTrue(bucket.isIdle(5 * SECOND, 2 * SECOND));
+	}
+
+	@Test
+	void concurrentAcquiresNeverExceedBurst() throws Exception {
+		TokenBucket bucket = new TokenBucket(0.001, 100, 0);
+		AtomicInteger granted = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		for (int i = 0; i < 1000; i++) {
+			executor.execute(() -> {
+				if (bucket.tryAcquire(0) == 0) {
+					granted.incrementAndGet();
+				}
+			});
+		}
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		assertEquals(100, granted.get());
+	}
+
+	@Test
+	void clientLimiterCapsConcurrency() {
+		ClientLimiter limiter = new ClientLimiter(new TokenBucket(10, 10, 0), 2);
+
+		assertTrue(limiter.tryEnter());
+		assertTrue(limiter.tryEnter());
+		assertFalse(limiter.tryEnter());
+		limiter.exit();
+		assertTrue(limiter.tryEnter());
+	}
+}
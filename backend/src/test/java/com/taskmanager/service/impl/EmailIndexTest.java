@@ -0,0 +1,67 @@
+package com.taskmanager.service.impl;
+
+import com.taskmanager.changebus.InMemoryChangeTransport;
+import com.taskmanager.changebus.TaskChange;
+import com.taskmanager.changebus.TaskChangeBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EmailIndexTest {
+
+	private JdbcTemplate jdbcTemplate;
+	private EmailIndex index;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		when(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class)).thenReturn(0L);
+		index = new EmailIndex(jdbcTemplate);
+		index.rebuild();
+	}
+
+	@Test
+	void learnsAddressesRegisteredOnOtherInstances() {
+		when(jdbcTemplate.queryForList("SELECT email FROM users WHERE id = ?", String.class, 7L))
+				.thenReturn(List.of("Yeni@Example.com"));
+		InMemoryChangeTransport transport = new InMemoryChangeTransport();
+		TaskChangeBus registeringNode = new TaskChangeBus(transport, List.of(), Duration.ofHours(1));
+		TaskChangeBus otherNode = new TaskChangeBus(transport, List.of(index), Duration.ofHours(1));
+		registeringNode.start();
+		otherNode.start();
+
+		assertFalse(index.mightExist("yeni@example.com"));
+		registeringNode.publish(TaskChange.allTasksOf(7));
+		registeringNode.flush();
+
+		assertTrue(index.mightExist("yeni@example.com"));
+	}
+
+	@Test
+	void taskChangesDoNotQueryUsers() {
+		index.onTaskChanges(List.of(TaskChange.saved(7, 10, 1)));
+
+		verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class), any(Object[].class));
+	}
+
+	@Test
+	void addressAddedDuringRebuildIsKept() {
+		// Tam tarama sürerken commit edilen kayıt taramada görünmez
+		doAnswer(invocation -> {
+			index.add("gec@example.com");
+			return null;
+		}).when(jdbcTemplate).query(eq("SELECT email FROM users"), any(RowCallbackHandler.class));
+
+		index.rebuild();
+
+		assertTrue(index.mightExist("gec@example.com"));
+	}
+}
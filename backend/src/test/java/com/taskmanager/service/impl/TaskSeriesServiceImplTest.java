@@ -0,0 +1,104 @@
+package com.taskmanager.service.impl;
+
+import com.taskmanager.changebus.TaskChangeBus;
+import com.taskmanager.dto.DtoTaskIU;
+import com.taskmanager.dto.DtoTaskSeriesIU;
+import com.taskmanager.model.RecurrenceFrequency;
+import com.taskmanager.model.Task;
+import com.taskmanager.model.TaskSeries;
+import com.taskmanager.model.TaskStatus;
+import com.taskmanager.model.User;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskSeriesRepository;
+import com.taskmanager.repository.UserRepository;
+import com.taskmanager.util.RankKey;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TaskSeriesServiceImplTest {
+
+	private static final LocalDate START = LocalDate.of(2026, 12, 7);
+
+	private TaskSeriesRepository taskSeriesRepository;
+	private TaskRepository taskRepository;
+	private TaskSeriesServiceImpl service;
+	private User user;
+	private TaskSeries series;
+
+	@BeforeEach
+	void setUp() {
+		taskSeriesRepository = mock(TaskSeriesRepository.class);
+		taskRepository = mock(TaskRepository.class);
+		service = new TaskSeriesServiceImpl(taskSeriesRepository, taskRepository, mock(UserRepository.class),
+				new UpcomingTaskIndex(), mock(TaskChangeBus.class), new BoardRankRebalancer(taskRepository, null));
+
+		user = new User();
+		user.setId(1L);
+		series = TaskSeries.builder().id(5L).title("Haftalık").status(TaskStatus.TO_DO)
+				.frequency(RecurrenceFrequency.WEEKLY).repeatInterval(1).startDate(START).user(user).build();
+		when(taskSeriesRepository.findById(5L)).thenReturn(Optional.of(series));
+		when(taskSeriesRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+	}
+
+	private Task occurrence(long id, LocalDate date, TaskStatus status) {
+		return Task.builder().id(id).title("Haftalık").status(status).dueDate(date).user(user)
+				.series(series).occurrenceDate(date).build();
+	}
+
+	private DtoTaskSeriesIU rule(int interval) {
+		return DtoTaskSeriesIU.builder().title("Haftalık").status(TaskStatus.TO_DO)
+				.frequency(RecurrenceFrequency.WEEKLY).repeatInterval(interval).startDate(START).userId(1L).build();
+	}
+
+	@Test
+	void ruleChangeKeepsCompletedOccurrencesAsTasks() {
+		Task kept = occurrence(1, START.plusWeeks(2), TaskStatus.TO_DO);
+		Task completed = occurrence(2, START.plusWeeks(1), TaskStatus.DONE);
+		when(taskRepository.findBySeriesId(5L)).thenReturn(List.of(kept, completed));
+
+		// 2 haftada bir: 1. hafta artık seride değil
+		service.updateSeries(5L, rule(2));
+
+		verify(taskRepository, never()).delete(any());
+		assertSame(series, kept.getSeries());
+		assertEquals(START.plusWeeks(2), kept.getOccurrenceDate());
+		// Tamamlanmış tekrar sıradan görev olarak kalır
+		assertNull(completed.getSeries());
+		assertNull(completed.getOccurrenceDate());
+		assertEquals(TaskStatus.DONE, completed.getStatus());
+		assertEquals(START.plusWeeks(1), completed.getDueDate());
+	}
+
+	@Test
+	void savedOccurrenceIsAppendedToItsBoardColumn() {
+		LocalDate date = START.plusWeeks(1);
+		when(taskRepository.findBySeriesIdAndOccurrenceDate(5L, date)).thenReturn(Optional.empty());
+		when(taskRepository.findLastRank(1L, TaskStatus.IN_PROGRESS)).thenReturn(Optional.of("V"));
+		when(taskRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		service.saveOccurrence(5L, date, DtoTaskIU.builder().title("Haftalık").status(TaskStatus.IN_PROGRESS).userId(1L).build());
+
+		verify(taskRepository).save(argThat(task -> RankKey.after("V").equals(task.getRank())));
+	}
+
+	@Test
+	void seriesTitleIsLimitedLikeTaskTitle() {
+		Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+		DtoTaskSeriesIU dto = rule(1);
+		dto.setTitle("x".repeat(Task.TITLE_MAX_LENGTH + 1));
+
+		assertEquals(1, validator.validate(dto).size());
+		dto.setTitle("x".repeat(Task.TITLE_MAX_LENGTH));
+		assertTrue(validator.validate(dto).isEmpty());
+	}
+}
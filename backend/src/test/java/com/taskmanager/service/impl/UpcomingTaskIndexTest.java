@@ -0,0 +1,84 @@
+package com.taskmanager.service.impl;
+
+import com.taskmanager.dto.DtoTask;
+import com.taskmanager.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpcomingTaskIndexTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+
+	private static DtoTask task(long id, int days, TaskStatus status) {
+		return DtoTask.builder().id(id).userId(1L).title("t" + id).status(status).dueDate(TODAY.plusDays(days)).build();
+	}
+
+	@Test
+	void coldUserIsNotServedFromMemory() {
+		UpcomingTaskIndex index = new UpcomingTaskIndex();
+		index.put(task(1, 1, TaskStatus.TO_DO));
+
+		assertNull(index.get(1L, 5, TODAY));
+	}
+
+	@Test
+	void writesKeepLoadedListOrdered() {
+		UpcomingTaskIndex index = new UpcomingTaskIndex();
+		index.load(1L, List.of(task(1, 3, TaskStatus.TO_DO), task(2, 5, TaskStatus.IN_PROGRESS)),
+				UpcomingTaskIndex.CAPACITY, index.version(1L));
+
+		index.put(task(3, 1, TaskStatus.TO_DO));
+		index.put(task(2, 5, TaskStatus.DONE));
+		index.put(task(1, 4, TaskStatus.TO_DO));
+
+		List<Long> ids = index.get(1L, 5, TODAY).stream().map(DtoTask::getId).toList();
+		assertEquals(List.of(3L, 1L), ids);
+	}
+
+	@Test
+	void listBeyondWatermarkFallsBackToDatabase() {
+		UpcomingTaskIndex index = new UpcomingTaskIndex();
+		List<DtoTask> loaded = new ArrayList<>();
+		for (int i = 0; i < UpcomingTaskIndex.CAPACITY; i++) {
+			loaded.add(task(i + 1, i, TaskStatus.TO_DO));
+		}
+		index.load(1L, loaded, UpcomingTaskIndex.CAPACITY, index.version(1L));
+
+		assertEquals(5, index.get(1L, 5, TODAY).size());
+		// Watermark'ın ötesindeki görev bellekte tutulmaz
+		index.put(task(999, 365, TaskStatus.TO_DO));
+		assertNull(index.get(1L, UpcomingTaskIndex.CAPACITY + 1, TODAY));
+		// Geçmiş günler atılınca liste sınırın altında kalır
+		assertNull(index.get(1L, UpcomingTaskIndex.CAPACITY, TODAY.plusDays(1)));
+	}
+
+	@Test
+	void statusFilterIsServedOnlyWhenPrefixIsEnough() {
+		UpcomingTaskIndex index = new UpcomingTaskIndex();
+		List<DtoTask> loaded = new ArrayList<>();
+		for (int i = 0; i < UpcomingTaskIndex.CAPACITY; i++) {
+			loaded.add(task(i + 1, i, i % 10 == 0 ? TaskStatus.IN_PROGRESS : TaskStatus.TO_DO));
+		}
+		index.load(1L, loaded, UpcomingTaskIndex.CAPACITY, index.version(1L));
+
+		List<Long> ids = index.get(1L, 2, TODAY, TaskStatus.IN_PROGRESS).stream().map(DtoTask::getId).toList();
+		assertEquals(List.of(1L, 11L), ids);
+		// Bellekte yalnızca 5 tane var, sonrası veritabanında olabilir
+		assertNull(index.get(1L, 6, TODAY, TaskStatus.IN_PROGRESS));
+	}
+
+	@Test
+	void loadIsDiscardedWhenWriteRacesWithRead() {
+		UpcomingTaskIndex index = new UpcomingTaskIndex();
+		long version = index.version(1L);
+		index.put(task(1, 1, TaskStatus.TO_DO));
+		index.load(1L, List.of(), UpcomingTaskIndex.CAPACITY, version);
+
+		assertNull(index.get(1L, 5, TODAY));
+	}
+}
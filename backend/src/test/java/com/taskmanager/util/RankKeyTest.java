@@ -0,0 +1,98 @@
+package com.taskmanager.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankKeyTest {
+
+	@Test
+	void firstKeyIsTheMiddleOfTheRange() {
+		assertEquals("V", RankKey.between(null, null));
+	}
+
+	@Test
+	void keysFallStrictlyBetweenTheirBounds() {
+		assertBetween(null, "1");
+		assertBetween("1", "2");
+		assertBetween("1", "1V");
+		assertBetween("0V", "1");
+		assertBetween("zz", null);
+		assertBetween("00001", "00002");
+	}
+
+	@Test
+	void repeatedInsertsAtTheSamePositionGrowSlowly() {
+		String lower = "V";
+		String upper = "W";
+		for (int i = 0; i < 100; i++) {
+			upper = RankKey.between(lower, upper);
+		}
+		assertTrue(upper.compareTo(lower) > 0);
+		assertTrue(upper.length() <= 24);
+	}
+
+	@Test
+	void appendsStayShort() {
+		String last = null;
+		// Yeniden numaralandırma olmadan: her ~31 eklemede bir karakter
+		for (int i = 0; i < 1275; i++) {
+			String next = RankKey.after(last);
+			if (last != null) {
+				assertTrue(next.compareTo(last) > 0, next + " > " + last);
+			}
+			last = next;
+		}
+		assertTrue(last.length() <= 48, "uzunluk: " + last.length());
+		assertEquals("zzV", RankKey.after("zz"));
+		assertEquals("1", RankKey.after("0V"));
+	}
+
+	@Test
+	void randomInsertsKeepKeysOrdered() {
+		Random random = new Random(42);
+		List<String> keys = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			int position = random.nextInt(keys.size() + 1);
+			String lower = position == 0 ? null : keys.get(position - 1);
+			String upper = position == keys.size() ? null : keys.get(position);
+			keys.add(position, RankKey.between(lower, upper));
+		}
+		for (int i = 1; i < keys.size(); i++) {
+			assertTrue(keys.get(i - 1).compareTo(keys.get(i)) < 0);
+			assertNotEquals('0', keys.get(i).charAt(keys.get(i).length() - 1));
+		}
+	}
+
+	@Test
+	void evenlySpacedKeysAreShortAndOrdered() {
+		List<String> keys = RankKey.evenlySpaced(5000);
+
+		assertEquals(5000, keys.size());
+		for (int i = 1; i < keys.size(); i++) {
+			assertTrue(keys.get(i - 1).compareTo(keys.get(i)) < 0);
+		}
+		assertTrue(keys.stream().allMatch(key -> key.length() <= 3));
+		assertNotNull(RankKey.between(keys.get(0), keys.get(1)));
+	}
+
+	@Test
+	void rejectsInvalidBounds() {
+		assertThrows(IllegalArgumentException.class, () -> RankKey.between("b", "a"));
+		assertThrows(IllegalArgumentException.class, () -> RankKey.between("a0", null));
+	}
+
+	private static void assertBetween(String lower, String upper) {
+		String key = RankKey.between(lower, upper);
+		if (lower != null) {
+			assertTrue(key.compareTo(lower) > 0, key + " > " + lower);
+		}
+		if (upper != null) {
+			assertTrue(key.compareTo(upper) < 0, key + " < " + upper);
+		}
+	}
+}
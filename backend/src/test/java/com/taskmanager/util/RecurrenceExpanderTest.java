@@ -0,0 +1,64 @@
+package com.taskmanager.util;
+
+import com.taskmanager.model.RecurrenceFrequency;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceExpanderTest {
+
+	@Test
+	void expandsOnlyTheRequestedWindowOfALongDailySeries() {
+		LocalDate start = LocalDate.of(2000, 1, 1);
+
+		List<LocalDate> dates = RecurrenceExpander.expand(RecurrenceFrequency.DAILY, 1, start, null, null,
+				Set.of(LocalDate.of(2025, 3, 10)), LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+
+		assertEquals(30, dates.size());
+		assertEquals(LocalDate.of(2025, 3, 1), dates.get(0));
+		assertFalse(dates.contains(LocalDate.of(2025, 3, 10)));
+	}
+
+	@Test
+	void weeklyWithIntervalKeepsAlignment() {
+		LocalDate start = LocalDate.of(2025, 1, 6);
+
+		List<LocalDate> dates = RecurrenceExpander.expand(RecurrenceFrequency.WEEKLY, 2, start, null, null,
+				null, LocalDate.of(2025, 1, 14), LocalDate.of(2025, 2, 10));
+
+		assertEquals(List.of(LocalDate.of(2025, 1, 20), LocalDate.of(2025, 2, 3)), dates);
+	}
+
+	@Test
+	void monthlyClampsToMonthEndWithoutDrift() {
+		LocalDate start = LocalDate.of(2025, 1, 31);
+
+		List<LocalDate> dates = RecurrenceExpander.expand(RecurrenceFrequency.MONTHLY, 1, start, null, null,
+				null, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 4, 30));
+
+		assertEquals(List.of(LocalDate.of(2025, 2, 28), LocalDate.of(2025, 3, 31), LocalDate.of(2025, 4, 30)), dates);
+	}
+
+	@Test
+	void respectsCountAndUntil() {
+		LocalDate start = LocalDate.of(2025, 1, 1);
+
+		assertEquals(3, RecurrenceExpander.expand(RecurrenceFrequency.DAILY, 1, start, null, 3,
+				null, start, start.plusDays(30)).size());
+		assertEquals(5, RecurrenceExpander.expand(RecurrenceFrequency.DAILY, 1, start, start.plusDays(4), null,
+				null, start, start.plusDays(30)).size());
+	}
+
+	@Test
+	void indexOfRecognisesOccurrences() {
+		LocalDate start = LocalDate.of(2025, 1, 1);
+
+		assertEquals(2, RecurrenceExpander.indexOf(RecurrenceFrequency.WEEKLY, 1, start, LocalDate.of(2025, 1, 15)));
+		assertEquals(-1, RecurrenceExpander.indexOf(RecurrenceFrequency.WEEKLY, 1, start, LocalDate.of(2025, 1, 16)));
+		assertEquals(-1, RecurrenceExpander.indexOf(RecurrenceFrequency.WEEKLY, 1, start, LocalDate.of(2024, 12, 25)));
+	}
+}
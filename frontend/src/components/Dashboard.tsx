@@ -1,4 +1,4 @@
-import React, { useState } from 'react';
+import React, { useEffect, useState } from 'react';
 import type {Task} from '../services/taskService';
 import { Paper, Typography, Box, IconButton, Menu, MenuItem } from '@mui/material';
 import EditIcon from '@mui/icons-material/Edit';
@@ -7,20 +7,39 @@ import KeyboardArrowDownIcon from '@mui/icons-material/KeyboardArrowDown';
 import { TaskService } from '../services/taskService';
 
 interface DashboardProps {
-  tasks: Task[];
+  userId: number;
+  statusFilter: string;
+  // Görev listesi yeniden yüklendiğinde artar
+  refreshKey: number;
   onTasksChange: () => void;
   onEditTask: (task: Task) => void;
   onDeleteTask: (taskId: number) => void;
 }
 
 const Dashboard: React.FC<DashboardProps> = ({
-  tasks,
+  userId,
+  statusFilter,
+  refreshKey,
   onEditTask,
   onDeleteTask,
   onTasksChange
 }) => {
   const [statusMenuAnchor, setStatusMenuAnchor] = useState<{ [key: number]: HTMLElement | null }>({});
   const [updatingTaskId, setUpdatingTaskId] = useState<number | null>(null);
+  const [upcomingTasks, setUpcomingTasks] = useState<Task[]>([]);
+
+  // Yaklaşan görevler sunucudan hazır sıralı gelir; görevler yeniden yüklendiğinde veya durum filtresi değiştiğinde yenilenir
+  useEffect(() => {
+    let cancelled = false;
+    TaskService.getUpcomingTasks(userId, 5, statusFilter === 'all' ? undefined : statusFilter)
+      .then(response => {
+        if (!cancelled) setUpcomingTasks(response.data);
+      })
+      .catch(error => console.error('Error fetching upcoming tasks:', error));
+    return () => {
+      cancelled = true;
+    };
+  }, [userId, statusFilter, refreshKey]);
 
   const handleStatusClick = (event: React.MouseEvent<HTMLElement>, taskId: number) => {
     setStatusMenuAnchor({ ...statusMenuAnchor, [taskId]: event.currentTarget });
@@ -33,7 +52,7 @@ const Dashboard: React.FC<DashboardProps> = ({
   const handleQuickStatusChange = async (taskId: number, newStatus: string) => {
     try {
       setUpdatingTaskId(taskId);
-      const taskToUpdate = tasks.find(t => t.id === taskId);
+      const taskToUpdate = upcomingTasks.find(t => t.id === taskId);
       if (!taskToUpdate) return;
 
       await TaskService.updateTask(taskId, { ...taskToUpdate, status: newStatus });
@@ -64,26 +83,13 @@ const Dashboard: React.FC<DashboardProps> = ({
     }
   };
 
-  const getUpcomingTasks = () => {
-    const now = new Date();
-    now.setHours(0, 0, 0, 0); // Günün başlangıcını al
-    return tasks
-      .filter(task => {
-        const taskDate = new Date(task.dueDate);
-        taskDate.setHours(0, 0, 0, 0); // Görev tarihinin başlangıcını al
-        return taskDate >= now; // Bugün ve sonrası
-      })
-      .sort((a, b) => new Date(a.dueDate).getTime() - new Date(b.dueDate).getTime())
-      .slice(0, 5);
-  };
-
   return (
     <Paper sx={{ p: 3, height: '100%', display: 'flex', flexDirection: 'column' }}>
       <Typography variant="h6" sx={{ mb: 3, fontWeight: 600 }}>
         Yaklaşan Görevler
       </Typography>
       <Box sx={{ flex: 1 }}>
-        {getUpcomingTasks().map((task) => (
+        {upcomingTasks.map((task) => (
           <Box
             key={task.id}
             sx={{
@@ -207,7 +213,7 @@ const Dashboard: React.FC<DashboardProps> = ({
             </Box>
           </Box>
         ))}
-        {getUpcomingTasks().length === 0 && (
+        {upcomingTasks.length === 0 && (
           <Typography variant="body2" color="text.secondary" sx={{ textAlign: 'center' }}>
             Yaklaşan görev bulunmuyor
           </Typography>
@@ -1,4 +1,4 @@
-import React, { useState } from 'react';
+import React, { useEffect, useState } from 'react';
 import { TextField, Button, Paper, Typography, InputAdornment, IconButton, CircularProgress } from '@mui/material';
 import { Visibility, VisibilityOff, Person, Email, Lock, AccountCircle } from '@mui/icons-material';
 import { AxiosError } from 'axios';
@@ -28,6 +28,29 @@ export const Register: React.FC = () => {
     const [showPassword, setShowPassword] = useState(false);
     const [showConfirmPassword, setShowConfirmPassword] = useState(false);
     const [isLoading, setIsLoading] = useState(false);
+    const [emailTaken, setEmailTaken] = useState(false);
+
+    // Kullanıcı yazmayı bıraktıktan sonra e-postanın kullanımda olup olmadığını kontrol et
+    useEffect(() => {
+        const email = formData.email.trim();
+        setEmailTaken(false);
+        if (!/^[^\s@]+@[^\s@]+\.[^\s@]+$/.test(email)) return;
+
+        let cancelled = false;
+        const timer = setTimeout(async () => {
+            try {
+                const response = await UserService.isEmailAvailable(email);
+                if (!cancelled) setEmailTaken(!response.data.available);
+            } catch {
+                // Kontrol başarısız olursa kayıt sırasında sunucu yine doğrular
+            }
+        }, 400);
+
+        return () => {
+            cancelled = true;
+            clearTimeout(timer);
+        };
+    }, [formData.email]);
 
     // Güvenli error handling için yardımcı fonksiyon
     const handleError = (error: unknown) => {
@@ -67,6 +90,10 @@ export const Register: React.FC = () => {
             showNotification('Geçerli bir e-posta adresi giriniz', 'error');
             return false;
         }
+        if (emailTaken) {
+            showNotification('Bu email adresi zaten kullanımda', 'error');
+            return false;
+        }
         if (!formData.password) {
             showNotification('Şifre alanı zorunludur', 'error');
             return false;
@@ -254,6 +281,8 @@ export const Register: React.FC = () => {
                             disabled={isLoading}
                             required
                             size="small"
+                            error={emailTaken}
+                            helperText={emailTaken ? 'Bu email adresi zaten kullanımda' : undefined}
                             InputProps={{
                                 startAdornment: (
                                     <InputAdornment position="start">
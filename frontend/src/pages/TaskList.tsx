@@ -77,6 +77,7 @@ export interface TaskListProps {
 
 export const TaskList: React.FC<TaskListProps> = ({setAuth}) => {
     const [tasks, setTasks] = useState<Task[]>([]);
+    const [tasksVersion, setTasksVersion] = useState(0);
     const [filteredTasks, setFilteredTasks] = useState<Task[]>([]);
     const [loading, setLoading] = useState(true);
     const [searchTerm, setSearchTerm] = useState('');
@@ -155,6 +156,7 @@ export const TaskList: React.FC<TaskListProps> = ({setAuth}) => {
             setLoading(true);
             const response = await TaskService.getUserTasks(userData.id);
             setTasks(Array.isArray(response.data) ? response.data : []);
+            setTasksVersion(version => version + 1);
         } catch (error) {
             const errorResponse = handleError(error);
             showNotification(errorResponse.message, errorResponse.severity);
@@ -694,12 +696,16 @@ export const TaskList: React.FC<TaskListProps> = ({setAuth}) => {
                                     />
                                 </Box>
                                 <Box sx={{flex: 1}}>
-                                    <Dashboard
-                                        tasks={statusFilter === 'all' ? tasks : filteredTasks}
-                                        onTasksChange={fetchTasks}
-                                        onEditTask={handleEditTaskClick}
-                                        onDeleteTask={handleDeleteTask}
-                                    />
+                                    {user && (
+                                        <Dashboard
+                                            userId={user.id}
+                                            statusFilter={statusFilter}
+                                            refreshKey={tasksVersion}
+                                            onTasksChange={fetchTasks}
+                                            onEditTask={handleEditTaskClick}
+                                            onDeleteTask={handleDeleteTask}
+                                        />
+                                    )}
                                 </Box>
                             </Box>
                         </Box>
@@ -7,6 +7,8 @@ export interface Task {
     status: string;
     dueDate: string;
     userId: number;
+    seriesId?: number | null;
+    occurrenceDate?: string | null;
 }
 
 export interface TaskCreateDTO {
@@ -19,6 +21,9 @@ export interface TaskCreateDTO {
 
 export const TaskService = {
     getUserTasks: (userId: number) => api.get<Task[]>(`/tasks/user/${userId}`),
+    // status verilmezse tamamlanmamış görevler döner
+    getUpcomingTasks: (userId: number, limit = 5, status?: string) =>
+        api.get<Task[]>(`/tasks/user/${userId}/upcoming`, { params: { limit, status } }),
     createTask: (task: TaskCreateDTO) => api.post<Task>('/tasks/save', task),
     updateTask: (id: number, task: TaskCreateDTO) => api.put<Task>(`/tasks/update/${id}`, task),
     deleteTask: (id: number) => api.delete(`/tasks/delete/${id}`)
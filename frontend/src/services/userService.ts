@@ -27,5 +27,6 @@ export interface UpdateProfileDTO {
 export const UserService = {
     login: (credentials: LoginCredentials) => api.post<User>('/users/login', credentials),
     register: (userData: RegisterCredentials) => api.post<User>('/users/save', userData),
-    updateProfile: (id: number, data: UpdateProfileDTO) => api.put<User>(`/users/profile/${id}`, data)
+    updateProfile: (id: number, data: UpdateProfileDTO) => api.put<User>(`/users/profile/${id}`, data),
+    isEmailAvailable: (email: string) => api.get<{ available: boolean }>('/users/email-available', { params: { email } })
 };